@@ -2,10 +2,16 @@ package com.warehouse;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableCaching
+@EnableAsync
+@EnableScheduling
 public class WarehouseManagementApplication {
     public static void main(String[] args) {
         SpringApplication.run(WarehouseManagementApplication.class, args);
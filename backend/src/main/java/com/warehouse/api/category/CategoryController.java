@@ -1,5 +1,6 @@
 package com.warehouse.api.category;
 
+import com.warehouse.api.category.dto.CategoryView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,13 +22,13 @@ public class CategoryController {
     private final CategoryService categoryService;
 
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
+    public ResponseEntity<List<CategoryView>> getAllCategories() {
         return ResponseEntity.ok(categoryService.getAllCategories());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategoryById(@PathVariable Long id) {
-        Category category = categoryService.getCategoryById(id)
+    public ResponseEntity<CategoryView> getCategoryById(@PathVariable Long id) {
+        CategoryView category = categoryService.getCategoryById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found"));
         return ResponseEntity.ok(category);
     }
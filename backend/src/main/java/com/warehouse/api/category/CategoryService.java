@@ -1,12 +1,14 @@
 package com.warehouse.api.category;
 
+import com.warehouse.api.category.dto.CategoryView;
+
 import java.util.List;
 import java.util.Optional;
 
 public interface CategoryService {
-    public List<Category> getAllCategories();
+    public List<CategoryView> getAllCategories();
 
-    public Optional<Category> getCategoryById(Long id);
+    public Optional<CategoryView> getCategoryById(Long id);
 
     public Optional<Category> getCategoryByName(String name);
 
@@ -1,7 +1,10 @@
 package com.warehouse.api.category;
 
+import com.warehouse.api.category.dto.CategoryView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,18 +21,21 @@ public class CategoryServiceImpl implements CategoryService{
 
 
     @Override
-    public List<Category> getAllCategories() {
-        return categoryRepository.findAll();
+    @Cacheable(cacheNames = "categories", key = "'all'")
+    public List<CategoryView> getAllCategories() {
+        return categoryRepository.findAll().stream().map(CategoryView::of).toList();
     }
     @Override
-    public Optional<Category> getCategoryById(Long id) {
-        return categoryRepository.findById(id);
+    @Cacheable(cacheNames = "categories", key = "#id")
+    public Optional<CategoryView> getCategoryById(Long id) {
+        return categoryRepository.findById(id).map(CategoryView::of);
     }
     @Override
     public Optional<Category> getCategoryByName(String name) {
         return categoryRepository.findByName(name);
     }
     @Override
+    @CacheEvict(cacheNames = "categories", allEntries = true)
     public Category createCategory(Category category) {
         if (categoryRepository.existsByName(category.getName())) {
             throw new RuntimeException("Category already exists");
@@ -37,6 +43,7 @@ public class CategoryServiceImpl implements CategoryService{
         return categoryRepository.save(category);
     }
     @Override
+    @CacheEvict(cacheNames = "categories", allEntries = true)
     public Category updateCategory(Long id, Category categoryDetails) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found"));
@@ -45,12 +52,14 @@ public class CategoryServiceImpl implements CategoryService{
         return categoryRepository.save(category);
     }
     @Override
+    @CacheEvict(cacheNames = "categories", allEntries = true)
     public void deleteCategory(Long id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found"));
         categoryRepository.delete(category);
     }
     @Override
+    @CacheEvict(cacheNames = "categories", allEntries = true)
     public void deleteCategoryByName(String name) {
         if (!categoryRepository.existsByName(name)) {
             throw new RuntimeException("Category not found");
@@ -0,0 +1,15 @@
+package com.warehouse.api.category.dto;
+
+import com.warehouse.api.category.Category;
+
+import java.time.LocalDateTime;
+
+// Immutable copy of a category, safe to share from the cache; serializes like the entity
+public record CategoryView(Long categoryId, String name, String createdBy, LocalDateTime createdAt,
+                           String modifiedBy, LocalDateTime modifiedAt) {
+
+    public static CategoryView of(Category category) {
+        return new CategoryView(category.getCategoryId(), category.getName(), category.getCreatedBy(),
+                category.getCreatedAt(), category.getModifiedBy(), category.getModifiedAt());
+    }
+}
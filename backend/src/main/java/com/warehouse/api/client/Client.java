@@ -1,5 +1,6 @@
 package com.warehouse.api.client;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.warehouse.auditing.Auditable;
 import com.warehouse.enums.ClientType;
 import jakarta.persistence.*;
@@ -42,9 +43,12 @@ public class Client extends Auditable {
     @Enumerated(EnumType.STRING)
     private ClientType type = ClientType.RETAIL;
 
-    @Column(name = "total_orders")
+    // Sales totals; only changed by the outbox projection through ClientRepository.applyTotalsDelta
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "total_orders", nullable = false, insertable = false, updatable = false)
     private Integer totalOrders = 0;
 
-    @Column(name = "total_value", precision = 10, scale = 2)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "total_value", precision = 10, scale = 2, nullable = false, insertable = false, updatable = false)
     private BigDecimal totalValue = BigDecimal.ZERO;
 }
\ No newline at end of file
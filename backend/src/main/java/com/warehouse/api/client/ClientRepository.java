@@ -2,10 +2,12 @@ package com.warehouse.api.client;
 
 import com.warehouse.enums.ClientType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +25,9 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     
     @Query("SELECT c FROM Client c WHERE c.phone LIKE %:phone%")
     List<Client> findByPhoneContaining(@Param("phone") String phone);
+    
+    @Modifying
+    @Query("UPDATE Client c SET c.totalOrders = COALESCE(c.totalOrders, 0) + :orders, " +
+           "c.totalValue = COALESCE(c.totalValue, 0) + :value WHERE c.clientId = :clientId")
+    int applyTotalsDelta(@Param("clientId") Long clientId, @Param("orders") int orders, @Param("value") BigDecimal value);
 }
\ No newline at end of file
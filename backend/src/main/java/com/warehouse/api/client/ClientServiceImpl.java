@@ -1,6 +1,9 @@
 package com.warehouse.api.client;
 
+import com.warehouse.api.search.SearchField;
+import com.warehouse.api.search.SearchIndexService;
 import com.warehouse.enums.ClientType;
+import com.warehouse.enums.SearchEntityType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -15,6 +18,7 @@ import java.util.Optional;
 public class ClientServiceImpl implements ClientService{
 
     private final ClientRepository clientRepository;
+    private final SearchIndexService searchIndexService;
 
     @Override
     public List<Client> getAllClients() {
@@ -33,7 +37,9 @@ public class ClientServiceImpl implements ClientService{
         if (clientRepository.existsByEmail(client.getEmail())) {
             throw new RuntimeException("Client email already exists");
         }
-        return clientRepository.save(client);
+        Client savedClient = clientRepository.save(client);
+        searchIndexService.clientSaved(savedClient);
+        return savedClient;
     }
     @Override
     public Client updateClient(Long id, Client clientDetails) {
@@ -46,13 +52,16 @@ public class ClientServiceImpl implements ClientService{
         client.setAddress(clientDetails.getAddress());
         client.setType(clientDetails.getType());
 
-        return clientRepository.save(client);
+        Client savedClient = clientRepository.save(client);
+        searchIndexService.clientSaved(savedClient);
+        return savedClient;
     }
     @Override
     public void deleteClient(Long id) {
         Client client = clientRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Client not found"));
         clientRepository.delete(client);
+        searchIndexService.removed(SearchEntityType.CLIENT, id);
     }
     @Override
     public List<Client> getClientsByType(ClientType type) {
@@ -60,11 +69,19 @@ public class ClientServiceImpl implements ClientService{
     }
     @Override
     public List<Client> searchClientsByName(String name) {
-        return clientRepository.findByNameContaining(name);
+        if (!searchIndexService.isReady()) {
+            return clientRepository.findByNameContaining(name);
+        }
+        return clientRepository.findAllById(
+                searchIndexService.findContaining(SearchEntityType.CLIENT, SearchField.NAME, name));
     }
     @Override
     public List<Client> searchClientsByPhone(String phone) {
-        return clientRepository.findByPhoneContaining(phone);
+        if (!searchIndexService.isReady()) {
+            return clientRepository.findByPhoneContaining(phone);
+        }
+        return clientRepository.findAllById(
+                searchIndexService.findContaining(SearchEntityType.CLIENT, SearchField.PHONE, phone));
     }
     @Override
     public boolean existsByEmail(String email) {
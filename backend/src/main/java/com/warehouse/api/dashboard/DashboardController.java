@@ -0,0 +1,35 @@
+package com.warehouse.api.dashboard;
+
+import com.warehouse.api.dashboard.dto.DashboardStats;
+import com.warehouse.api.dashboard.dto.WarehouseStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/dashboard")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping("/stats")
+    public ResponseEntity<DashboardStats> getStats() {
+        return ResponseEntity.ok(dashboardService.getStats());
+    }
+
+    @GetMapping("/warehouses")
+    public ResponseEntity<List<WarehouseStats>> getWarehouseStats() {
+        return ResponseEntity.ok(dashboardService.getWarehouseStats());
+    }
+
+    @PostMapping("/warehouses/rebuild")
+    public ResponseEntity<?> rebuildWarehouseStats() {
+        dashboardService.rebuildWarehouseStats();
+        return ResponseEntity.ok(Map.of("message", "Warehouse statistics rebuilt successfully"));
+    }
+}
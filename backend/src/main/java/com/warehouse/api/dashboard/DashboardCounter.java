@@ -0,0 +1,22 @@
+package com.warehouse.api.dashboard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "dashboard_counter")
+public class DashboardCounter {
+
+    public static final String TRANSACTIONS = "TRANSACTIONS";
+
+    @Id
+    @Column(name = "counter_key", length = 50)
+    private String counterKey;
+
+    @Column(name = "counter_value", nullable = false)
+    private long counterValue;
+}
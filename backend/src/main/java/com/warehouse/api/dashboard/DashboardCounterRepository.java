@@ -0,0 +1,16 @@
+package com.warehouse.api.dashboard;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_counter (counter_key, counter_value) VALUES (:counterKey, :delta) " +
+            "ON DUPLICATE KEY UPDATE counter_value = counter_value + VALUES(counter_value)", nativeQuery = true)
+    void applyDelta(@Param("counterKey") String counterKey, @Param("delta") long delta);
+}
@@ -0,0 +1,15 @@
+package com.warehouse.api.dashboard;
+
+import com.warehouse.api.dashboard.dto.DashboardStats;
+import com.warehouse.api.dashboard.dto.WarehouseStats;
+
+import java.util.List;
+
+public interface DashboardService {
+
+    DashboardStats getStats();
+
+    List<WarehouseStats> getWarehouseStats();
+
+    void rebuildWarehouseStats();
+}
@@ -0,0 +1,85 @@
+package com.warehouse.api.dashboard;
+
+import com.warehouse.api.client.ClientRepository;
+import com.warehouse.api.dashboard.dto.DashboardStats;
+import com.warehouse.api.dashboard.dto.WarehouseStats;
+import com.warehouse.api.item.ItemRepository;
+import com.warehouse.api.product.ProductRepository;
+import com.warehouse.api.transaction.TransactionRepository;
+import com.warehouse.api.user.UserRepository;
+import com.warehouse.api.warehouse.Warehouse;
+import com.warehouse.api.warehouse.WarehouseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final int RECENT_TRANSACTIONS_LIMIT = 5;
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ProductRepository productRepository;
+    private final ClientRepository clientRepository;
+    private final TransactionRepository transactionRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final WarehouseStockSummaryRepository summaryRepository;
+    private final WarehouseStockSummaryService stockSummaryService;
+    private final DashboardCounterRepository counterRepository;
+
+    @Override
+    public DashboardStats getStats() {
+        return new DashboardStats(
+                userRepository.count(),
+                itemRepository.count(),
+                productRepository.count(),
+                clientRepository.count(),
+                // Maintained from the transaction outbox instead of counting the ledger on every load
+                counterRepository.findById(DashboardCounter.TRANSACTIONS)
+                        .map(DashboardCounter::getCounterValue)
+                        .orElseGet(transactionRepository::count),
+                transactionRepository.findLatest(PageRequest.of(0, RECENT_TRANSACTIONS_LIMIT))
+        );
+    }
+
+    @Override
+    public List<WarehouseStats> getWarehouseStats() {
+        Map<Long, WarehouseStockSummary> summaries = summaryRepository.findAll().stream()
+                .collect(Collectors.toMap(WarehouseStockSummary::getWarehouseId, Function.identity()));
+
+        return warehouseRepository.findAll().stream()
+                .map(warehouse -> toWarehouseStats(warehouse,
+                        summaries.getOrDefault(warehouse.getWarehouseId(), new WarehouseStockSummary())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void rebuildWarehouseStats() {
+        stockSummaryService.rebuild();
+    }
+
+    private WarehouseStats toWarehouseStats(Warehouse warehouse, WarehouseStockSummary summary) {
+        return new WarehouseStats(
+                warehouse.getWarehouseId(),
+                warehouse.getName(),
+                warehouse.getLocation(),
+                warehouse.getManager(),
+                warehouse.getDescription(),
+                summary.getTotalItems(),
+                summary.getTotalProducts(),
+                summary.getTotalItemQuantity(),
+                summary.getTotalProductQuantity(),
+                summary.getTotalValue()
+        );
+    }
+}
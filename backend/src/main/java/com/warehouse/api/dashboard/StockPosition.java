@@ -0,0 +1,34 @@
+package com.warehouse.api.dashboard;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.product.Product;
+import com.warehouse.api.warehouse.Warehouse;
+
+import java.math.BigDecimal;
+
+/**
+ * Snapshot of the fields of an item or product that feed the warehouse stock summary.
+ */
+public record StockPosition(Long warehouseId, BigDecimal quantity, BigDecimal unitValue) {
+
+    public static StockPosition of(Item item) {
+        return new StockPosition(warehouseIdOf(item.getWarehouse()), item.getQuantity(), item.getPrice());
+    }
+
+    public static StockPosition of(Product product) {
+        return new StockPosition(warehouseIdOf(product.getWarehouse()), product.getQuantity(), product.getSalePrice());
+    }
+
+    public StockPosition {
+        quantity = quantity != null ? quantity : BigDecimal.ZERO;
+        unitValue = unitValue != null ? unitValue : BigDecimal.ZERO;
+    }
+
+    public BigDecimal value() {
+        return quantity.multiply(unitValue);
+    }
+
+    private static Long warehouseIdOf(Warehouse warehouse) {
+        return warehouse != null ? warehouse.getWarehouseId() : null;
+    }
+}
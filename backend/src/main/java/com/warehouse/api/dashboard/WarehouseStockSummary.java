@@ -0,0 +1,34 @@
+package com.warehouse.api.dashboard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Entity
+@Table(name = "warehouse_stock_summary")
+public class WarehouseStockSummary {
+
+    @Id
+    @Column(name = "warehouse_id")
+    private Long warehouseId;
+
+    @Column(name = "total_items")
+    private Long totalItems = 0L;
+
+    @Column(name = "total_products")
+    private Long totalProducts = 0L;
+
+    @Column(name = "total_item_quantity", precision = 19, scale = 3)
+    private BigDecimal totalItemQuantity = BigDecimal.ZERO;
+
+    @Column(name = "total_product_quantity", precision = 19, scale = 3)
+    private BigDecimal totalProductQuantity = BigDecimal.ZERO;
+
+    @Column(name = "total_value", precision = 19, scale = 5)
+    private BigDecimal totalValue = BigDecimal.ZERO;
+}
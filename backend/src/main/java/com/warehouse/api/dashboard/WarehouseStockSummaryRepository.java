@@ -0,0 +1,65 @@
+package com.warehouse.api.dashboard;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface WarehouseStockSummaryRepository extends JpaRepository<WarehouseStockSummary, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO warehouse_stock_summary " +
+            "(warehouse_id, total_items, total_products, total_item_quantity, total_product_quantity, total_value) " +
+            "VALUES (:warehouseId, :itemCount, :productCount, :itemQuantity, :productQuantity, :value) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_items = total_items + VALUES(total_items), " +
+            "total_products = total_products + VALUES(total_products), " +
+            "total_item_quantity = total_item_quantity + VALUES(total_item_quantity), " +
+            "total_product_quantity = total_product_quantity + VALUES(total_product_quantity), " +
+            "total_value = total_value + VALUES(total_value)", nativeQuery = true)
+    void applyDelta(@Param("warehouseId") Long warehouseId,
+                    @Param("itemCount") long itemCount,
+                    @Param("productCount") long productCount,
+                    @Param("itemQuantity") BigDecimal itemQuantity,
+                    @Param("productQuantity") BigDecimal productQuantity,
+                    @Param("value") BigDecimal value);
+
+    // Recomputes every warehouse in one statement: counts by each entity's own warehouse, quantity and value
+    // from stock_balance, where the stock actually is. The SELECT is a locking read under REPEATABLE READ, so
+    // postings that touch the same rows serialize around it instead of being overwritten.
+    @Modifying
+    @Query(value = "INSERT INTO warehouse_stock_summary " +
+            "(warehouse_id, total_items, total_products, total_item_quantity, total_product_quantity, total_value) " +
+            "SELECT w.warehouse_id, COALESCE(ic.item_count, 0), COALESCE(pc.product_count, 0), " +
+            "COALESCE(iq.item_quantity, 0), COALESCE(pq.product_quantity, 0), " +
+            "COALESCE(iq.item_value, 0) + COALESCE(pq.product_value, 0) " +
+            "FROM warehouse w " +
+            "LEFT JOIN (SELECT warehouse_id, COUNT(*) AS item_count FROM item GROUP BY warehouse_id) ic " +
+            "ON ic.warehouse_id = w.warehouse_id " +
+            "LEFT JOIN (SELECT warehouse_id, COUNT(*) AS product_count FROM product GROUP BY warehouse_id) pc " +
+            "ON pc.warehouse_id = w.warehouse_id " +
+            "LEFT JOIN (SELECT b.warehouse_id, SUM(b.quantity) AS item_quantity, " +
+            "SUM(b.quantity * COALESCE(i.price, 0)) AS item_value FROM stock_balance b " +
+            "JOIN item i ON i.item_id = b.entity_id WHERE b.entity_type = 'ITEMS' GROUP BY b.warehouse_id) iq " +
+            "ON iq.warehouse_id = w.warehouse_id " +
+            "LEFT JOIN (SELECT b.warehouse_id, SUM(b.quantity) AS product_quantity, " +
+            "SUM(b.quantity * COALESCE(p.sale_price, 0)) AS product_value FROM stock_balance b " +
+            "JOIN product p ON p.product_id = b.entity_id WHERE b.entity_type = 'PRODUCTS' GROUP BY b.warehouse_id) pq " +
+            "ON pq.warehouse_id = w.warehouse_id " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_items = VALUES(total_items), " +
+            "total_products = VALUES(total_products), " +
+            "total_item_quantity = VALUES(total_item_quantity), " +
+            "total_product_quantity = VALUES(total_product_quantity), " +
+            "total_value = VALUES(total_value)", nativeQuery = true)
+    int recomputeAll();
+
+    @Modifying
+    @Query(value = "DELETE FROM warehouse_stock_summary " +
+            "WHERE warehouse_id NOT IN (SELECT warehouse_id FROM warehouse)", nativeQuery = true)
+    int deleteOrphaned();
+}
@@ -0,0 +1,172 @@
+package com.warehouse.api.dashboard;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.product.Product;
+import com.warehouse.api.stock.ItemQuantity;
+import com.warehouse.api.stock.StockBalance;
+import com.warehouse.api.stock.StockBalanceService;
+import com.warehouse.api.stock.StockMovement;
+import com.warehouse.enums.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the per-warehouse stock rollup in step with item and product stock and prices. Item and product
+ * counts follow each entity's own warehouse; quantity and value follow {@code stock_balance}, so they are
+ * updated by the same code paths that write the balance rows, transfers included.
+ * Every method joins the caller's transaction, so the rollup commits or rolls back with the stock change.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class WarehouseStockSummaryService {
+
+    private final WarehouseStockSummaryRepository summaryRepository;
+    private final StockBalanceService stockBalanceService;
+
+    // A new entity's opening stock is booked on its own warehouse
+    public void itemAdded(Item item) {
+        add(EntityType.ITEMS, StockPosition.of(item), 1);
+    }
+
+    // Call before the balance rows are removed
+    public void itemRemoved(Item item) {
+        removed(EntityType.ITEMS, item.getItemId(), StockPosition.of(item));
+    }
+
+    // Catalogue changes only: the count follows the warehouse and the stock is revalued at the new price
+    public void itemChanged(StockPosition before, Item item) {
+        changed(EntityType.ITEMS, item.getItemId(), before, StockPosition.of(item));
+    }
+
+    public void itemQuantityChanged(Item item, Long warehouseId, BigDecimal delta) {
+        apply(EntityType.ITEMS, warehouseId, 0, delta, delta.multiply(StockPosition.of(item).unitValue()));
+    }
+
+    // One upsert per warehouse for a set of item quantity changes; warehouseId null books each line on its
+    // item's own warehouse
+    public void itemQuantitiesChanged(Long warehouseId, List<ItemQuantity> changes) {
+        Map<Long, BigDecimal[]> byWarehouse = new LinkedHashMap<>();
+        for (ItemQuantity change : changes) {
+            StockPosition position = StockPosition.of(change.item());
+            Long lineWarehouseId = warehouseId != null ? warehouseId : position.warehouseId();
+            if (lineWarehouseId == null) {
+                continue;
+            }
+            BigDecimal[] totals = byWarehouse.computeIfAbsent(lineWarehouseId,
+                    id -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            totals[0] = totals[0].add(change.quantity());
+            totals[1] = totals[1].add(change.quantity().multiply(position.unitValue()));
+        }
+        byWarehouse.forEach((id, totals) -> apply(EntityType.ITEMS, id, 0, totals[0], totals[1]));
+    }
+
+    // One upsert per entity type and warehouse for a set of balance changes
+    public void quantitiesChanged(List<StockMovement> movements) {
+        Map<WarehouseKey, BigDecimal[]> byWarehouse = new LinkedHashMap<>();
+        for (StockMovement movement : movements) {
+            BigDecimal unitValue = movement.unitValue() != null ? movement.unitValue() : BigDecimal.ZERO;
+            BigDecimal[] totals = byWarehouse.computeIfAbsent(
+                    new WarehouseKey(movement.entityType(), movement.warehouseId()),
+                    key -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            totals[0] = totals[0].add(movement.delta());
+            totals[1] = totals[1].add(movement.delta().multiply(unitValue));
+        }
+        byWarehouse.forEach((key, totals) -> apply(key.entityType(), key.warehouseId(), 0, totals[0], totals[1]));
+    }
+
+    public void productAdded(Product product) {
+        add(EntityType.PRODUCTS, StockPosition.of(product), 1);
+    }
+
+    public void productRemoved(Product product) {
+        removed(EntityType.PRODUCTS, product.getProductId(), StockPosition.of(product));
+    }
+
+    public void productChanged(StockPosition before, Product product) {
+        changed(EntityType.PRODUCTS, product.getProductId(), before, StockPosition.of(product));
+    }
+
+    public void productQuantityChanged(Product product, Long warehouseId, BigDecimal delta) {
+        apply(EntityType.PRODUCTS, warehouseId, 0, delta, delta.multiply(StockPosition.of(product).unitValue()));
+    }
+
+    public void stockTransferred(EntityType entityType, BigDecimal unitValue, Long sourceWarehouseId,
+                                 Long targetWarehouseId, BigDecimal quantity) {
+        BigDecimal value = quantity.multiply(unitValue != null ? unitValue : BigDecimal.ZERO);
+        apply(entityType, sourceWarehouseId, 0, quantity.negate(), value.negate());
+        apply(entityType, targetWarehouseId, 0, quantity, value);
+    }
+
+    public void warehouseRemoved(Long warehouseId) {
+        if (summaryRepository.existsById(warehouseId)) {
+            summaryRepository.deleteById(warehouseId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (summaryRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    // Recompute the whole rollup from the item, product and stock_balance tables in place, without a delete-and-reinsert
+    // window in which concurrent applyDelta upserts would be lost
+    public void rebuild() {
+        summaryRepository.recomputeAll();
+        summaryRepository.deleteOrphaned();
+    }
+
+    private void add(EntityType entityType, StockPosition position, int sign) {
+        BigDecimal factor = BigDecimal.valueOf(sign);
+        apply(entityType, position.warehouseId(), sign,
+                position.quantity().multiply(factor), position.value().multiply(factor));
+    }
+
+    private void removed(EntityType entityType, Long entityId, StockPosition position) {
+        apply(entityType, position.warehouseId(), -1, BigDecimal.ZERO, BigDecimal.ZERO);
+        for (StockBalance balance : stockBalanceService.getBalances(entityType, entityId)) {
+            apply(entityType, balance.getWarehouseId(), 0, balance.getQuantity().negate(),
+                    balance.getQuantity().multiply(position.unitValue()).negate());
+        }
+    }
+
+    private void changed(EntityType entityType, Long entityId, StockPosition before, StockPosition after) {
+        if (!Objects.equals(before.warehouseId(), after.warehouseId())) {
+            apply(entityType, before.warehouseId(), -1, BigDecimal.ZERO, BigDecimal.ZERO);
+            apply(entityType, after.warehouseId(), 1, BigDecimal.ZERO, BigDecimal.ZERO);
+        }
+        BigDecimal priceChange = after.unitValue().subtract(before.unitValue());
+        if (priceChange.signum() != 0) {
+            for (StockBalance balance : stockBalanceService.getBalances(entityType, entityId)) {
+                apply(entityType, balance.getWarehouseId(), 0, BigDecimal.ZERO, balance.getQuantity().multiply(priceChange));
+            }
+        }
+    }
+
+    private void apply(EntityType entityType, Long warehouseId, long countDelta,
+                       BigDecimal quantityDelta, BigDecimal valueDelta) {
+        if (warehouseId == null
+                || (countDelta == 0 && quantityDelta.signum() == 0 && valueDelta.signum() == 0)) {
+            return;
+        }
+        if (entityType == EntityType.ITEMS) {
+            summaryRepository.applyDelta(warehouseId, countDelta, 0, quantityDelta, BigDecimal.ZERO, valueDelta);
+        } else {
+            summaryRepository.applyDelta(warehouseId, 0, countDelta, BigDecimal.ZERO, quantityDelta, valueDelta);
+        }
+    }
+
+    private record WarehouseKey(EntityType entityType, Long warehouseId) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.warehouse.api.dashboard.dto;
+
+import com.warehouse.api.transaction.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStats {
+
+    private long totalUsers;
+    private long totalItems;
+    private long totalProducts;
+    private long totalClients;
+    private long totalTransactions;
+    private List<Transaction> recentTransactions;
+}
@@ -0,0 +1,24 @@
+package com.warehouse.api.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarehouseStats {
+
+    private Long warehouseId;
+    private String name;
+    private String location;
+    private String manager;
+    private String description;
+    private long totalItems;
+    private long totalProducts;
+    private BigDecimal totalItemQuantity;
+    private BigDecimal totalProductQuantity;
+    private BigDecimal totalValue;
+}
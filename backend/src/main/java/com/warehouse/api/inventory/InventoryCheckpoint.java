@@ -0,0 +1,31 @@
+package com.warehouse.api.inventory;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "inventory_checkpoint")
+public class InventoryCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "checkpoint_id")
+    private Long checkpointId;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    // Ledger rows stamped below this sequence value, plus the ones listed in inventory_checkpoint_pending,
+    // are included in the snapshot
+    @Column(name = "ledger_seq", nullable = false)
+    private Long ledgerSeq = 0L;
+
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount = 0L;
+
+    @Column(name = "product_count", nullable = false)
+    private Long productCount = 0L;
+}
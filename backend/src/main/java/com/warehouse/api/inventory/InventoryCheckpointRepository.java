@@ -0,0 +1,139 @@
+package com.warehouse.api.inventory;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface InventoryCheckpointRepository extends JpaRepository<InventoryCheckpoint, Long> {
+
+    // Signed stock effect of a ledger row: production consumes items and yields products, adjustments return stock
+    String SIGNED_QUANTITY = "CASE " +
+            "WHEN t.transaction_type = 'INBOUND' THEN t.quantity " +
+            "WHEN t.transaction_type = 'OUTBOUND' THEN -t.quantity " +
+            "WHEN t.transaction_type = 'PRODUCTION' AND t.entity_type = 'ITEMS' THEN -t.quantity " +
+            "WHEN t.transaction_type = 'PRODUCTION' THEN t.quantity " +
+            "WHEN t.transaction_type = 'ADJUSTMENT' THEN t.quantity " +
+            "ELSE 0 END";
+
+    Optional<InventoryCheckpoint> findFirstByTakenAtLessThanEqualOrderByTakenAtDesc(LocalDateTime takenAt);
+
+    Optional<InventoryCheckpoint> findFirstByTakenAtGreaterThanOrderByTakenAtAsc(LocalDateTime takenAt);
+
+    Optional<InventoryCheckpoint> findFirstByOrderByTakenAtDesc();
+
+    List<InventoryCheckpoint> findAllByOrderByTakenAtDesc();
+
+    // Effect of a ledger row on the warehouse in its warehouse_id: a transfer arrives there in full
+    String WAREHOUSE_QUANTITY = "CASE WHEN t.transaction_type = 'TRANSFER' THEN t.quantity ELSE " + SIGNED_QUANTITY + " END";
+
+    // Completed ledger rows for entities that existed at asOf; each query adds which side of a checkpoint it wants
+    String LEDGER_ROWS = "FROM `transaction` t " +
+            "LEFT JOIN item i ON i.item_id = t.item_id " +
+            "LEFT JOIN product p ON p.product_id = t.product_id " +
+            "WHERE t.status = 'COMPLETED' " +
+            "AND (:entityType IS NULL OR t.entity_type = :entityType) " +
+            "AND (:entityId IS NULL OR COALESCE(t.item_id, t.product_id) = :entityId) " +
+            "AND COALESCE(i.created_at, p.created_at) <= :asOf ";
+
+    // Rows whose stock effect the checkpoint holds: stamped before it was taken, or committed but still waiting
+    // in the outbox when it was taken. A null checkpoint stands for live stock, which holds every committed row
+    String IN_CHECKPOINT = "AND (:checkpointId IS NULL OR t.ledger_seq < :ledgerSeq OR t.transaction_id IN " +
+            "(SELECT cp.transaction_id FROM inventory_checkpoint_pending cp WHERE cp.checkpoint_id = :checkpointId)) ";
+
+    String NOT_IN_CHECKPOINT = "AND (t.ledger_seq >= :ledgerSeq OR t.ledger_seq IS NULL) AND t.transaction_id NOT IN " +
+            "(SELECT cp.transaction_id FROM inventory_checkpoint_pending cp WHERE cp.checkpoint_id = :checkpointId) ";
+
+    // Rows: entity_type, entity_id, warehouse_id (0 for none), signed quantity, code, name. Postings without a
+    // warehouse moved the entity's home warehouse; a transfer also leaves its source warehouse
+    String LEDGER_DELTAS = "SELECT m.entity_type, m.entity_id, m.warehouse_id, SUM(m.quantity), MAX(m.code), MAX(m.name) FROM (" +
+            "SELECT t.entity_type, COALESCE(t.item_id, t.product_id) AS entity_id, " +
+            "COALESCE(t.warehouse_id, i.warehouse_id, p.warehouse_id, 0) AS warehouse_id, " +
+            WAREHOUSE_QUANTITY + " AS quantity, COALESCE(i.code, p.code) AS code, COALESCE(i.name, p.name) AS name " +
+            LEDGER_ROWS;
+
+    String TRANSFER_SOURCE_DELTAS = "UNION ALL " +
+            "SELECT t.entity_type, COALESCE(t.item_id, t.product_id), t.source_warehouse_id, -t.quantity, " +
+            "COALESCE(i.code, p.code), COALESCE(i.name, p.name) " +
+            LEDGER_ROWS + "AND t.transaction_type = 'TRANSFER' AND t.source_warehouse_id IS NOT NULL ";
+
+    String GROUP_DELTAS = ") m WHERE (:warehouseId IS NULL OR m.warehouse_id = :warehouseId) " +
+            "GROUP BY m.entity_type, m.entity_id, m.warehouse_id";
+
+    // Next value of the commit-ordered ledger sequence; every row stamped below it has committed
+    @Query(value = "SELECT next_val FROM ledger_sequence", nativeQuery = true)
+    Long findNextLedgerSeq();
+
+    // Postings that have committed but are not stamped yet
+    @Query(value = "SELECT transaction_id FROM transaction_outbox WHERE event_type = 'RECORDED'", nativeQuery = true)
+    List<Long> findUnstampedTransactionIds();
+
+    @Modifying
+    @Query("DELETE FROM InventoryCheckpoint c WHERE c.takenAt < :before")
+    int deleteTakenBefore(@Param("before") LocalDateTime before);
+
+    // Rows: entity_type, entity_id, code, name, warehouse_id (0 for none), quantity
+    @Query(value = "SELECT l.entity_type, l.entity_id, COALESCE(i.code, p.code), COALESCE(i.name, p.name), " +
+            "l.warehouse_id, l.quantity FROM inventory_checkpoint_line l " +
+            "LEFT JOIN item i ON l.entity_type = 'ITEMS' AND i.item_id = l.entity_id " +
+            "LEFT JOIN product p ON l.entity_type = 'PRODUCTS' AND p.product_id = l.entity_id " +
+            "WHERE l.checkpoint_id = :checkpointId " +
+            "AND (:entityType IS NULL OR l.entity_type = :entityType) " +
+            "AND (:entityId IS NULL OR l.entity_id = :entityId) " +
+            "AND (:warehouseId IS NULL OR l.warehouse_id = :warehouseId) " +
+            "AND COALESCE(i.created_at, p.created_at) <= :asOf", nativeQuery = true)
+    List<Object[]> findCheckpointLines(@Param("checkpointId") Long checkpointId,
+                                       @Param("entityType") String entityType,
+                                       @Param("entityId") Long entityId,
+                                       @Param("warehouseId") Long warehouseId,
+                                       @Param("asOf") LocalDateTime asOf);
+
+    // Same row shape as findCheckpointLines, read from live stock the same way a snapshot is taken
+    @Query(value = "SELECT 'ITEMS', i.item_id, i.code, i.name, COALESCE(b.warehouse_id, i.warehouse_id, 0), " +
+            "COALESCE(b.quantity, i.quantity, 0) FROM item i " +
+            "LEFT JOIN stock_balance b ON b.entity_type = 'ITEMS' AND b.entity_id = i.item_id " +
+            "WHERE (:entityType IS NULL OR :entityType = 'ITEMS') " +
+            "AND (:entityId IS NULL OR i.item_id = :entityId) " +
+            "AND (:warehouseId IS NULL OR COALESCE(b.warehouse_id, i.warehouse_id, 0) = :warehouseId) " +
+            "AND i.created_at <= :asOf " +
+            "UNION ALL " +
+            "SELECT 'PRODUCTS', p.product_id, p.code, p.name, COALESCE(b.warehouse_id, p.warehouse_id, 0), " +
+            "COALESCE(b.quantity, p.quantity, 0) FROM product p " +
+            "LEFT JOIN stock_balance b ON b.entity_type = 'PRODUCTS' AND b.entity_id = p.product_id " +
+            "WHERE (:entityType IS NULL OR :entityType = 'PRODUCTS') " +
+            "AND (:entityId IS NULL OR p.product_id = :entityId) " +
+            "AND (:warehouseId IS NULL OR COALESCE(b.warehouse_id, p.warehouse_id, 0) = :warehouseId) " +
+            "AND p.created_at <= :asOf", nativeQuery = true)
+    List<Object[]> findLiveLines(@Param("entityType") String entityType,
+                                 @Param("entityId") Long entityId,
+                                 @Param("warehouseId") Long warehouseId,
+                                 @Param("asOf") LocalDateTime asOf);
+
+    // Ledger rows dated up to asOf that the checkpoint does not hold, replayed forward from it
+    @Query(value = LEDGER_DELTAS + "AND t.transaction_date <= :asOf " + NOT_IN_CHECKPOINT +
+            TRANSFER_SOURCE_DELTAS + "AND t.transaction_date <= :asOf " + NOT_IN_CHECKPOINT +
+            GROUP_DELTAS, nativeQuery = true)
+    List<Object[]> sumLedgerNotInCheckpoint(@Param("checkpointId") Long checkpointId,
+                                            @Param("ledgerSeq") Long ledgerSeq,
+                                            @Param("entityType") String entityType,
+                                            @Param("entityId") Long entityId,
+                                            @Param("warehouseId") Long warehouseId,
+                                            @Param("asOf") LocalDateTime asOf);
+
+    // Ledger rows dated after asOf that the checkpoint (or live stock) holds, undone walking back from it
+    @Query(value = LEDGER_DELTAS + "AND t.transaction_date > :asOf " + IN_CHECKPOINT +
+            TRANSFER_SOURCE_DELTAS + "AND t.transaction_date > :asOf " + IN_CHECKPOINT +
+            GROUP_DELTAS, nativeQuery = true)
+    List<Object[]> sumLedgerInCheckpoint(@Param("checkpointId") Long checkpointId,
+                                         @Param("ledgerSeq") Long ledgerSeq,
+                                         @Param("entityType") String entityType,
+                                         @Param("entityId") Long entityId,
+                                         @Param("warehouseId") Long warehouseId,
+                                         @Param("asOf") LocalDateTime asOf);
+}
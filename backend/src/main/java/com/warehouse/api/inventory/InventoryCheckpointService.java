@@ -0,0 +1,117 @@
+package com.warehouse.api.inventory;
+
+import com.warehouse.enums.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Takes periodic snapshots of every item and product quantity per warehouse. A point-in-time query starts
+ * from the nearest snapshot and only replays the ledger between it and the requested moment.
+ * <p>
+ * A snapshot is read under one REPEATABLE READ read view with plain, non-locking reads, so postings are never
+ * stalled and the stock lines, the ledger sequence boundary and the list of committed but not yet stamped
+ * postings all describe the same moment. The lines are copied in id ranges rather than with INSERT ... SELECT,
+ * which would read the current rows instead of the snapshot. Snapshots older than the retention are pruned.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class InventoryCheckpointService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryCheckpointService.class);
+    private static final int COPY_RANGE = 10_000;
+
+    private final InventoryCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Skips a scheduled run when another node (or a manual call) checkpointed recently
+    @Value("${inventory.checkpoint.min-interval:PT1H}")
+    private Duration minInterval;
+
+    @Value("${inventory.checkpoint.retention:P90D}")
+    private Duration retention;
+
+    @Scheduled(cron = "${inventory.checkpoint.cron:0 0 1 * * *}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void scheduledCheckpoint() {
+        LocalDateTime threshold = LocalDateTime.now().minus(minInterval);
+        boolean recent = checkpointRepository.findFirstByOrderByTakenAtDesc()
+                .map(latest -> latest.getTakenAt().isAfter(threshold))
+                .orElse(false);
+        if (!recent) {
+            InventoryCheckpoint checkpoint = takeCheckpoint();
+            int pruned = checkpointRepository.deleteTakenBefore(LocalDateTime.now().minus(retention));
+            logger.info("Inventory checkpoint {} taken: {} item lines, {} product lines; {} expired checkpoints pruned",
+                    checkpoint.getCheckpointId(), checkpoint.getItemCount(), checkpoint.getProductCount(), pruned);
+        }
+    }
+
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public InventoryCheckpoint takeCheckpoint() {
+        // The first consistent read fixes the read view; everything below is read as of that moment
+        Long ledgerSeq = checkpointRepository.findNextLedgerSeq();
+        List<Long> unstamped = checkpointRepository.findUnstampedTransactionIds();
+
+        InventoryCheckpoint checkpoint = new InventoryCheckpoint();
+        checkpoint.setTakenAt(LocalDateTime.now());
+        checkpoint.setLedgerSeq(ledgerSeq);
+        checkpoint = checkpointRepository.saveAndFlush(checkpoint);
+        Long checkpointId = checkpoint.getCheckpointId();
+
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO inventory_checkpoint_pending (checkpoint_id, transaction_id) VALUES (?, ?)",
+                unstamped, unstamped.size(), (statement, transactionId) -> {
+                    statement.setLong(1, checkpointId);
+                    statement.setLong(2, transactionId);
+                });
+        checkpoint.setItemCount(copyLines(checkpointId, EntityType.ITEMS));
+        checkpoint.setProductCount(copyLines(checkpointId, EntityType.PRODUCTS));
+        return checkpointRepository.save(checkpoint);
+    }
+
+    @Transactional(readOnly = true)
+    public List<InventoryCheckpoint> getCheckpoints() {
+        return checkpointRepository.findAllByOrderByTakenAtDesc();
+    }
+
+    // One line per stock_balance row; stock not held in any warehouse is recorded under warehouse 0
+    private long copyLines(Long checkpointId, EntityType entityType) {
+        String table = entityType == EntityType.ITEMS ? "item" : "product";
+        String idColumn = entityType == EntityType.ITEMS ? "item_id" : "product_id";
+        String select = "SELECT b.entity_id, b.warehouse_id, b.quantity FROM stock_balance b " +
+                "WHERE b.entity_type = ? AND b.entity_id BETWEEN ? AND ? " +
+                "UNION ALL " +
+                "SELECT e." + idColumn + ", COALESCE(e.warehouse_id, 0), COALESCE(e.quantity, 0) FROM " + table + " e " +
+                "WHERE e." + idColumn + " BETWEEN ? AND ? " +
+                "AND NOT EXISTS (SELECT 1 FROM stock_balance b WHERE b.entity_type = ? AND b.entity_id = e." + idColumn + ")";
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        long copied = 0;
+        for (long fromId = 1; maxId != null && fromId <= maxId; fromId += COPY_RANGE) {
+            List<Object[]> lines = jdbcTemplate.query(select,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2), rs.getBigDecimal(3)},
+                    entityType.name(), fromId, fromId + COPY_RANGE - 1, fromId, fromId + COPY_RANGE - 1, entityType.name());
+            jdbcTemplate.batchUpdate("INSERT INTO inventory_checkpoint_line " +
+                            "(checkpoint_id, entity_type, entity_id, warehouse_id, quantity) VALUES (?, ?, ?, ?, ?)",
+                    lines, lines.size(), (statement, line) -> {
+                        statement.setLong(1, checkpointId);
+                        statement.setString(2, entityType.name());
+                        statement.setLong(3, (Long) line[0]);
+                        statement.setLong(4, (Long) line[1]);
+                        statement.setBigDecimal(5, (BigDecimal) line[2]);
+                    });
+            copied += lines.size();
+        }
+        return copied;
+    }
+}
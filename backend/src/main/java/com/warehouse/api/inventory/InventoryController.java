@@ -0,0 +1,47 @@
+package com.warehouse.api.inventory;
+
+import com.warehouse.api.inventory.dto.InventoryAsOf;
+import com.warehouse.api.inventory.dto.ReconciliationReport;
+import com.warehouse.enums.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/inventory")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequiredArgsConstructor
+public class InventoryController {
+
+    private final InventoryHistoryService inventoryHistoryService;
+    private final InventoryCheckpointService inventoryCheckpointService;
+    private final ReconciliationService reconciliationService;
+
+    @GetMapping("/as-of")
+    public ResponseEntity<InventoryAsOf> getInventoryAsOf(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime date,
+            @RequestParam(required = false) EntityType entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) Long warehouseId) {
+        return ResponseEntity.ok(inventoryHistoryService.getInventoryAsOf(date, entityType, entityId, warehouseId));
+    }
+
+    @GetMapping("/checkpoints")
+    public ResponseEntity<List<InventoryCheckpoint>> getCheckpoints() {
+        return ResponseEntity.ok(inventoryCheckpointService.getCheckpoints());
+    }
+
+    @PostMapping("/checkpoints")
+    public ResponseEntity<InventoryCheckpoint> takeCheckpoint() {
+        return ResponseEntity.ok(inventoryCheckpointService.takeCheckpoint());
+    }
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<ReconciliationReport> reconcile(@RequestParam(defaultValue = "false") boolean repair) {
+        return ResponseEntity.ok(reconciliationService.reconcile(repair));
+    }
+}
@@ -0,0 +1,103 @@
+package com.warehouse.api.inventory;
+
+import com.warehouse.api.inventory.dto.InventoryAsOf;
+import com.warehouse.api.inventory.dto.InventoryPosition;
+import com.warehouse.enums.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Answers "what was on hand at time T" from the checkpoint closest to T, moving forward or backward
+ * through the ledger rows between the two. Live stock acts as the newest checkpoint, so the ledger
+ * scan never spans more than one checkpoint interval. Both checkpoints and the ledger replay are kept
+ * per warehouse, so a warehouse filter stays right across transfers.
+ * <p>
+ * Which postings a checkpoint holds is decided by its ledger sequence boundary, not by posting dates: a
+ * posting dated before the checkpoint but committed after it is replayed, not lost.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class InventoryHistoryService {
+
+    private final InventoryCheckpointRepository checkpointRepository;
+
+    public InventoryAsOf getInventoryAsOf(LocalDateTime asOf, EntityType entityType, Long entityId, Long warehouseId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (asOf.isAfter(now)) {
+            asOf = now;
+        }
+        String type = entityType != null ? entityType.name() : null;
+
+        Optional<InventoryCheckpoint> before = checkpointRepository.findFirstByTakenAtLessThanEqualOrderByTakenAtDesc(asOf);
+        Optional<InventoryCheckpoint> after = checkpointRepository.findFirstByTakenAtGreaterThanOrderByTakenAtAsc(asOf);
+        LocalDateTime afterTime = after.map(InventoryCheckpoint::getTakenAt).orElse(now);
+
+        boolean forward = before.isPresent()
+                && Duration.between(before.get().getTakenAt(), asOf).compareTo(Duration.between(asOf, afterTime)) <= 0;
+
+        InventoryCheckpoint anchor = forward ? before.get() : after.orElse(null);
+        Long anchorId = anchor != null ? anchor.getCheckpointId() : null;
+        Long ledgerSeq = anchor != null ? anchor.getLedgerSeq() : null;
+        List<Object[]> lines = anchor != null
+                ? checkpointRepository.findCheckpointLines(anchorId, type, entityId, warehouseId, asOf)
+                : checkpointRepository.findLiveLines(type, entityId, warehouseId, asOf);
+        // From any anchor: add the postings up to asOf it does not hold and undo the later ones it does. Live
+        // stock holds every committed posting, so it only has the second kind
+        List<Object[]> missing = anchor != null
+                ? checkpointRepository.sumLedgerNotInCheckpoint(anchorId, ledgerSeq, type, entityId, warehouseId, asOf)
+                : List.of();
+        List<Object[]> later = checkpointRepository.sumLedgerInCheckpoint(anchorId, ledgerSeq, type, entityId, warehouseId, asOf);
+
+        // Positions are per entity and warehouse; a transfer can open a warehouse the anchor had no line for
+        Map<String, InventoryPosition> positions = new LinkedHashMap<>();
+        for (Object[] row : lines) {
+            InventoryPosition position = position(row[0], row[1], row[2], row[3], row[4]);
+            position.setQuantity((BigDecimal) row[5]);
+            positions.put(key(position), position);
+        }
+        applyDeltas(positions, missing, false);
+        applyDeltas(positions, later, true);
+
+        return new InventoryAsOf(asOf,
+                anchor != null ? anchor.getCheckpointId() : null,
+                anchor != null ? anchor.getTakenAt() : afterTime,
+                new ArrayList<>(positions.values()));
+    }
+
+    private static void applyDeltas(Map<String, InventoryPosition> positions, List<Object[]> deltas, boolean undo) {
+        for (Object[] row : deltas) {
+            BigDecimal delta = (BigDecimal) row[3];
+            BigDecimal signed = undo ? delta.negate() : delta;
+            InventoryPosition candidate = position(row[0], row[1], row[4], row[5], row[2]);
+            InventoryPosition existing = positions.get(key(candidate));
+            if (existing != null) {
+                existing.setQuantity(existing.getQuantity().add(signed));
+            } else if (signed.signum() != 0) {
+                candidate.setQuantity(signed);
+                positions.put(key(candidate), candidate);
+            }
+        }
+    }
+
+    // Warehouse 0 marks stock that is not held in any warehouse
+    private static InventoryPosition position(Object entityType, Object entityId, Object code, Object name, Object warehouseId) {
+        long warehouse = ((Number) warehouseId).longValue();
+        return new InventoryPosition(EntityType.valueOf((String) entityType), ((Number) entityId).longValue(),
+                (String) code, (String) name, warehouse != 0 ? warehouse : null, BigDecimal.ZERO);
+    }
+
+    private static String key(InventoryPosition position) {
+        return position.getEntityType() + ":" + position.getEntityId() + ":" + position.getWarehouseId();
+    }
+}
@@ -0,0 +1,142 @@
+package com.warehouse.api.inventory;
+
+import com.warehouse.api.inventory.dto.StockDrift;
+import com.warehouse.api.live.LiveFeedBroadcaster;
+import com.warehouse.enums.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reconciles one id range of items or products against the ledger in its own transaction. The ledger
+ * is aggregated by the database over the (item_id|product_id, transaction_date) indexes, so only drifted
+ * rows ever reach the JVM.
+ * <p>
+ * Repair only touches rows whose whole history is in the ledger ({@code ledger_complete}) and never takes
+ * an item below its reserved quantity. A repaired row gets the ledger total as its quantity and its
+ * {@code stock_balance} rows rebuilt from the per-warehouse ledger; the resulting per-warehouse changes
+ * are reported to the live feed.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReconciliationChunkWorker {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LiveFeedBroadcaster liveFeedBroadcaster;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ReconciliationTally reconcile(EntityType entityType, long fromId, long toId, boolean repair, int sampleLimit) {
+        String table = entityType == EntityType.ITEMS ? "item" : "product";
+        String idColumn = entityType == EntityType.ITEMS ? "item_id" : "product_id";
+        // Only items can be reserved for productions
+        String reserved = entityType == EntityType.ITEMS ? "COALESCE(e.reserved_quantity, 0)" : "0";
+        String ledger = "SELECT t." + idColumn + " AS entity_id, SUM(" + InventoryCheckpointRepository.SIGNED_QUANTITY +
+                ") AS net FROM `transaction` t WHERE t.entity_type = ? AND t.status = 'COMPLETED' " +
+                "AND t." + idColumn + " BETWEEN ? AND ? GROUP BY t." + idColumn;
+        String source = table + " e LEFT JOIN (" + ledger + ") l ON l.entity_id = e." + idColumn;
+        String driftFilter = " WHERE e." + idColumn + " BETWEEN ? AND ? AND COALESCE(e.quantity, 0) <> COALESCE(l.net, 0)";
+
+        ReconciliationTally tally = new ReconciliationTally(sampleLimit);
+        // Repair locks the range first: postings hold the row lock until they commit, so once we have
+        // it every in-flight ledger row for these ids is visible to the reads below
+        Long checked = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + idColumn +
+                " BETWEEN ? AND ?" + (repair ? " FOR UPDATE" : ""), Long.class, fromId, toId);
+        tally.checked = checked != null ? checked : 0;
+
+        List<StockDrift> repairs = new ArrayList<>();
+        jdbcTemplate.query("SELECT e." + idColumn + ", COALESCE(e.quantity, 0), COALESCE(l.net, 0), e.ledger_complete, " +
+                        reserved + " FROM " + source + driftFilter,
+                resultSet -> {
+                    BigDecimal quantity = resultSet.getBigDecimal(2);
+                    BigDecimal ledgerQuantity = resultSet.getBigDecimal(3);
+                    StockDrift drift = new StockDrift(entityType, resultSet.getLong(1), quantity, ledgerQuantity,
+                            quantity.subtract(ledgerQuantity), null);
+                    if (repair) {
+                        if (!resultSet.getBoolean(4)) {
+                            drift.setUnrepairedReason("Opening stock predates the ledger");
+                        } else if (ledgerQuantity.compareTo(resultSet.getBigDecimal(5)) < 0) {
+                            drift.setUnrepairedReason("Ledger quantity is below the reserved quantity");
+                        } else {
+                            repairs.add(drift);
+                        }
+                    }
+                    tally.drift(drift);
+                },
+                entityType.name(), fromId, toId, fromId, toId);
+
+        if (!repairs.isEmpty()) {
+            repair(entityType, table, idColumn, repairs);
+            tally.repaired += repairs.size();
+        }
+        return tally;
+    }
+
+    private void repair(EntityType entityType, String table, String idColumn, List<StockDrift> repairs) {
+        // Balances are only read for the live feed while someone is listening
+        boolean announce = liveFeedBroadcaster.getSubscriberCount() > 0;
+        Map<List<Long>, BigDecimal> before = announce ? balances(entityType, repairs) : Map.of();
+        jdbcTemplate.batchUpdate("UPDATE " + table + " SET quantity = ? WHERE " + idColumn + " = ?",
+                repairs, repairs.size(), (statement, drift) -> {
+                    statement.setBigDecimal(1, drift.getLedgerQuantity());
+                    statement.setLong(2, drift.getEntityId());
+                });
+        jdbcTemplate.batchUpdate("DELETE FROM stock_balance WHERE entity_type = ? AND entity_id = ?",
+                repairs, repairs.size(), (statement, drift) -> {
+                    statement.setString(1, entityType.name());
+                    statement.setLong(2, drift.getEntityId());
+                });
+        // Every completed posting lands on its warehouse_id; a transfer also leaves its source warehouse
+        String postings = "FROM `transaction` t WHERE t.entity_type = ? AND t.status = 'COMPLETED' AND t." + idColumn + " = ?";
+        jdbcTemplate.batchUpdate("INSERT INTO stock_balance (entity_type, entity_id, warehouse_id, quantity) " +
+                        "SELECT ?, ?, m.warehouse_id, SUM(m.delta) FROM (" +
+                        "SELECT t.warehouse_id, " + InventoryCheckpointRepository.WAREHOUSE_QUANTITY + " AS delta " + postings +
+                        " UNION ALL SELECT t.source_warehouse_id, -t.quantity " + postings + " AND t.transaction_type = 'TRANSFER'" +
+                        ") m WHERE m.warehouse_id IS NOT NULL GROUP BY m.warehouse_id HAVING SUM(m.delta) <> 0",
+                repairs, repairs.size(), (statement, drift) -> {
+                    statement.setString(1, entityType.name());
+                    statement.setLong(2, drift.getEntityId());
+                    statement.setString(3, entityType.name());
+                    statement.setLong(4, drift.getEntityId());
+                    statement.setString(5, entityType.name());
+                    statement.setLong(6, drift.getEntityId());
+                });
+        if (announce) {
+            publishChanges(entityType, before, balances(entityType, repairs));
+        }
+    }
+
+    // Balances of the repaired rows keyed by [entity id, warehouse id]
+    private Map<List<Long>, BigDecimal> balances(EntityType entityType, List<StockDrift> repairs) {
+        List<Object> args = new ArrayList<>();
+        args.add(entityType.name());
+        repairs.forEach(drift -> args.add(drift.getEntityId()));
+        Map<List<Long>, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query("SELECT entity_id, warehouse_id, quantity FROM stock_balance WHERE entity_type = ? " +
+                        "AND entity_id IN (" + String.join(", ", Collections.nCopies(repairs.size(), "?")) + ")",
+                resultSet -> {
+                    balances.put(List.of(resultSet.getLong(1), resultSet.getLong(2)), resultSet.getBigDecimal(3));
+                },
+                args.toArray());
+        return balances;
+    }
+
+    private void publishChanges(EntityType entityType, Map<List<Long>, BigDecimal> before, Map<List<Long>, BigDecimal> after) {
+        Set<List<Long>> keys = new HashSet<>(before.keySet());
+        keys.addAll(after.keySet());
+        for (List<Long> key : keys) {
+            BigDecimal delta = after.getOrDefault(key, BigDecimal.ZERO).subtract(before.getOrDefault(key, BigDecimal.ZERO));
+            liveFeedBroadcaster.stockChanged(entityType, key.get(0), key.get(1), delta);
+        }
+    }
+}
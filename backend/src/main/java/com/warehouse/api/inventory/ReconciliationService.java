@@ -0,0 +1,125 @@
+package com.warehouse.api.inventory;
+
+import com.warehouse.api.dashboard.WarehouseStockSummaryService;
+import com.warehouse.api.inventory.dto.ReconciliationReport;
+import com.warehouse.enums.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Compares every item and product quantity counter with the net movement recorded in the ledger.
+ * <p>
+ * The id space is split into ranges of {@code reconciliation.chunk-size} ids that a fork-join pool works
+ * through in parallel, one short transaction per range. The database does the aggregation, so memory use
+ * does not grow with the ledger. In repair mode drifted counters whose history is fully in the ledger are
+ * set to the ledger value together with their warehouse balances, and the warehouse rollup is rebuilt
+ * afterwards.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReconciliationService.class);
+
+    private final ReconciliationChunkWorker chunkWorker;
+    private final WarehouseStockSummaryService stockSummaryService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${reconciliation.parallelism:4}")
+    private int parallelism;
+    @Value("${reconciliation.chunk-size:10000}")
+    private long chunkSize;
+    @Value("${reconciliation.report-limit:500}")
+    private int reportLimit;
+
+    public ReconciliationReport reconcile(boolean repair) {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("Reconciliation is already running");
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            ReconciliationReport report = new ReconciliationReport();
+            report.setStartedAt(LocalDateTime.now());
+            report.setRepaired(repair);
+
+            ReconciliationTally items = pool.invoke(rootTask(EntityType.ITEMS, "item", "item_id", repair));
+            ReconciliationTally products = pool.invoke(rootTask(EntityType.PRODUCTS, "product", "product_id", repair));
+
+            report.setItemsChecked(items.checked);
+            report.setItemsDrifted(items.drifted);
+            report.setItemsRepaired(items.repaired);
+            report.setProductsChecked(products.checked);
+            report.setProductsDrifted(products.drifted);
+            report.setProductsRepaired(products.repaired);
+            report.getDrifts().addAll(items.merge(products).samples);
+
+            if (items.repaired > 0 || products.repaired > 0) {
+                stockSummaryService.rebuild();
+            }
+            report.setFinishedAt(LocalDateTime.now());
+            logger.info("Stock reconciliation finished: {} of {} items and {} of {} products drifted, {} and {} repaired",
+                    report.getItemsDrifted(), report.getItemsChecked(),
+                    report.getProductsDrifted(), report.getProductsChecked(),
+                    report.getItemsRepaired(), report.getProductsRepaired());
+            return report;
+        } finally {
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    private RangeTask rootTask(EntityType entityType, String table, String idColumn, boolean repair) {
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(
+                "SELECT MIN(" + idColumn + ") AS min_id, MAX(" + idColumn + ") AS max_id FROM " + table);
+        Number minId = (Number) bounds.get("min_id");
+        Number maxId = (Number) bounds.get("max_id");
+        if (minId == null) {
+            return new RangeTask(entityType, 1, 0, repair);
+        }
+        return new RangeTask(entityType, minId.longValue(), maxId.longValue(), repair);
+    }
+
+    // Halves the id range until it fits in one chunk
+    private final class RangeTask extends RecursiveTask<ReconciliationTally> {
+
+        private final EntityType entityType;
+        private final long fromId;
+        private final long toId;
+        private final boolean repair;
+
+        private RangeTask(EntityType entityType, long fromId, long toId, boolean repair) {
+            this.entityType = entityType;
+            this.fromId = fromId;
+            this.toId = toId;
+            this.repair = repair;
+        }
+
+        @Override
+        protected ReconciliationTally compute() {
+            if (fromId > toId) {
+                return new ReconciliationTally(reportLimit);
+            }
+            if (toId - fromId < chunkSize) {
+                return chunkWorker.reconcile(entityType, fromId, toId, repair, reportLimit);
+            }
+            long middle = fromId + (toId - fromId) / 2;
+            RangeTask lower = new RangeTask(entityType, fromId, middle, repair);
+            RangeTask upper = new RangeTask(entityType, middle + 1, toId, repair);
+            lower.fork();
+            ReconciliationTally upperTally = upper.compute();
+            return lower.join().merge(upperTally);
+        }
+    }
+}
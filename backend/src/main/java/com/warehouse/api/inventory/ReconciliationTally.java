@@ -0,0 +1,40 @@
+package com.warehouse.api.inventory;
+
+import com.warehouse.api.inventory.dto.StockDrift;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Result of one or more reconciled id ranges; keeps at most sampleLimit drifts so memory stays flat
+class ReconciliationTally {
+
+    private final int sampleLimit;
+    long checked;
+    long drifted;
+    long repaired;
+    final List<StockDrift> samples = new ArrayList<>();
+
+    ReconciliationTally(int sampleLimit) {
+        this.sampleLimit = sampleLimit;
+    }
+
+    void drift(StockDrift drift) {
+        drifted++;
+        if (samples.size() < sampleLimit) {
+            samples.add(drift);
+        }
+    }
+
+    ReconciliationTally merge(ReconciliationTally other) {
+        checked += other.checked;
+        drifted += other.drifted;
+        repaired += other.repaired;
+        for (StockDrift drift : other.samples) {
+            if (samples.size() >= sampleLimit) {
+                break;
+            }
+            samples.add(drift);
+        }
+        return this;
+    }
+}
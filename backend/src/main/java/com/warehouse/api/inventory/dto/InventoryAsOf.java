@@ -0,0 +1,20 @@
+package com.warehouse.api.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryAsOf {
+
+    private LocalDateTime asOf;
+    // Snapshot the answer was derived from; null when it was replayed back from live stock
+    private Long checkpointId;
+    private LocalDateTime anchorTime;
+    private List<InventoryPosition> positions;
+}
@@ -0,0 +1,21 @@
+package com.warehouse.api.inventory.dto;
+
+import com.warehouse.enums.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryPosition {
+
+    private EntityType entityType;
+    private Long entityId;
+    private String code;
+    private String name;
+    private Long warehouseId;
+    private BigDecimal quantity;
+}
@@ -0,0 +1,25 @@
+package com.warehouse.api.inventory.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ReconciliationReport {
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private boolean repaired;
+    private long itemsChecked;
+    private long itemsDrifted;
+    private long itemsRepaired;
+    private long productsChecked;
+    private long productsDrifted;
+    private long productsRepaired;
+    // First drifts found, capped at reconciliation.report-limit; the counts above are complete
+    private List<StockDrift> drifts = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.warehouse.api.inventory.dto;
+
+import com.warehouse.enums.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockDrift {
+
+    private EntityType entityType;
+    private Long entityId;
+    // Counter on the item or product row
+    private BigDecimal quantity;
+    // Net signed movement of the completed ledger rows
+    private BigDecimal ledgerQuantity;
+    private BigDecimal drift;
+    // Why repair left the counter as it is; null when it was repaired or only a check was asked for
+    private String unrepairedReason;
+}
@@ -1,6 +1,7 @@
 package com.warehouse.api.item;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.warehouse.api.category.Category;
 import com.warehouse.api.unit.Unit;
 import com.warehouse.api.warehouse.Warehouse;
@@ -11,12 +12,14 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 
 @EqualsAndHashCode(callSuper = true)
 @Data
 @Entity
+@DynamicUpdate
 @Table(name = "item")
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Item extends Auditable {
@@ -61,4 +64,9 @@ public class Item extends Auditable {
     @Column(precision = 10, scale = 3)
     private BigDecimal quantity = BigDecimal.ZERO;
 
+    // Held for planned productions; only changed through the reservation queries in ItemRepository
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "reserved_quantity", precision = 10, scale = 3, nullable = false, insertable = false, updatable = false)
+    private BigDecimal reservedQuantity = BigDecimal.ZERO;
+
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.warehouse.api.item;
 
+import com.warehouse.api.item.dto.ItemListView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +26,11 @@ public class ItemController {
         return ResponseEntity.ok(itemService.getAllItems());
     }
 
+    @GetMapping("/list")
+    public ResponseEntity<List<ItemListView>> getItemListViews() {
+        return ResponseEntity.ok(itemService.getItemListViews());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Item> getItemById(@PathVariable Long id) {
         Item item = itemService.getItemById(id)
@@ -1,15 +1,18 @@
 package com.warehouse.api.item;
 
 import com.warehouse.api.category.Category;
+import com.warehouse.api.item.dto.ItemListView;
 import com.warehouse.api.warehouse.Warehouse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
@@ -29,8 +32,39 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findByCodeContaining(@Param("code") String code);
     
     @Query("SELECT i FROM Item i WHERE i.warehouse.id = :warehouseId")
-    List<Item> findByWarehouseId(@Param("warehouseId") UUID warehouseId);
+    List<Item> findByWarehouseId(@Param("warehouseId") Long warehouseId);
     
     @Query("SELECT i FROM Item i WHERE i.category.id = :categoryId")
-    List<Item> findByCategoryId(@Param("categoryId") UUID categoryId);
+    List<Item> findByCategoryId(@Param("categoryId") Long categoryId);
+    
+    // A decrease may not dip into stock reserved for planned productions; an increase always applies
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Item i SET i.quantity = COALESCE(i.quantity, 0) + :delta " +
+           "WHERE i.itemId = :itemId AND (:delta >= 0 OR COALESCE(i.quantity, 0) + :delta >= i.reservedQuantity)")
+    int applyQuantityDelta(@Param("itemId") Long itemId, @Param("delta") BigDecimal delta);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Item i SET i.reservedQuantity = i.reservedQuantity + :quantity " +
+           "WHERE i.itemId = :itemId AND COALESCE(i.quantity, 0) - i.reservedQuantity >= :quantity")
+    int reserveQuantity(@Param("itemId") Long itemId, @Param("quantity") BigDecimal quantity);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Item i SET i.reservedQuantity = CASE WHEN i.reservedQuantity > :quantity " +
+           "THEN i.reservedQuantity - :quantity ELSE 0 END WHERE i.itemId = :itemId")
+    int releaseReservedQuantity(@Param("itemId") Long itemId, @Param("quantity") BigDecimal quantity);
+    
+    // Takes reserved stock out of the total together with its reservation
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Item i SET i.quantity = i.quantity - :quantity, i.reservedQuantity = i.reservedQuantity - :quantity " +
+           "WHERE i.itemId = :itemId AND i.reservedQuantity >= :quantity AND i.quantity >= :quantity")
+    int consumeReservedQuantity(@Param("itemId") Long itemId, @Param("quantity") BigDecimal quantity);
+    
+    // [itemId, code, name, quantity] without loading the entities
+    @Query("SELECT i.itemId, i.code, i.name, COALESCE(i.quantity, 0) FROM Item i WHERE i.itemId IN :itemIds")
+    List<Object[]> findStockByIds(@Param("itemIds") Collection<Long> itemIds);
+    
+    @Query("SELECT new com.warehouse.api.item.dto.ItemListView(i.itemId, i.code, i.name, c.categoryId, c.name, " +
+           "w.warehouseId, w.name, u.unitId, u.name, i.price, i.quantity) FROM Item i " +
+           "LEFT JOIN i.category c LEFT JOIN i.warehouse w LEFT JOIN i.unit u ORDER BY i.name")
+    List<ItemListView> findAllListViews();
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.warehouse.api.item;
 
+import com.warehouse.api.item.dto.ItemListView;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -7,6 +9,8 @@ public interface ItemService {
 
     public List<Item> getAllItems();
 
+    public List<ItemListView> getItemListViews();
+
     public Optional<Item> getItemById(Long id);
 
     public Optional<Item> getItemByCode(String code);
@@ -2,13 +2,24 @@ package com.warehouse.api.item;
 
 import com.warehouse.api.category.Category;
 import com.warehouse.api.category.CategoryRepository;
+import com.warehouse.api.dashboard.StockPosition;
+import com.warehouse.api.dashboard.WarehouseStockSummaryService;
+import com.warehouse.api.item.dto.ItemListView;
+import com.warehouse.api.search.SearchField;
+import com.warehouse.api.search.SearchIndexService;
+import com.warehouse.api.stock.StockBalanceService;
+import com.warehouse.api.stock.StockMutationService;
+import com.warehouse.api.transaction.StockAdjustmentService;
 import com.warehouse.api.unit.UnitRepository;
 import com.warehouse.api.warehouse.Warehouse;
 import com.warehouse.api.warehouse.WarehouseRepository;
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.SearchEntityType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +31,11 @@ public class ItemServiceImpl implements ItemService{
     private final ItemRepository itemRepository;
     private final CategoryRepository categoryRepository;
     private final WarehouseRepository warehouseRepository;
+    private final WarehouseStockSummaryService stockSummaryService;
+    private final SearchIndexService searchIndexService;
+    private final StockBalanceService stockBalanceService;
+    private final StockAdjustmentService stockAdjustmentService;
+    private final StockMutationService stockMutationService;
     private UnitRepository unitRepository;
 
     @Override
@@ -27,6 +43,11 @@ public class ItemServiceImpl implements ItemService{
         return itemRepository.findAll();
     }
     @Override
+    @Transactional(readOnly = true)
+    public List<ItemListView> getItemListViews() {
+        return itemRepository.findAllListViews();
+    }
+    @Override
     public Optional<Item> getItemById(Long id) {
         return itemRepository.findById(id);
     }
@@ -39,12 +60,30 @@ public class ItemServiceImpl implements ItemService{
         if (itemRepository.existsByCode(item.getCode())) {
             throw new RuntimeException("Item code already exists");
         }
-        return itemRepository.save(item);
+        Item savedItem = itemRepository.save(item);
+        stockSummaryService.itemAdded(savedItem);
+        StockPosition position = StockPosition.of(savedItem);
+        stockBalanceService.add(EntityType.ITEMS, savedItem.getItemId(), position.warehouseId(), position.quantity());
+        stockAdjustmentService.itemOpened(savedItem);
+        searchIndexService.itemSaved(savedItem);
+        return savedItem;
     }
     @Override
     public Item updateItem(Long id, Item itemDetails) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Item not found"));
+        // A quantity edit is a stock count at the warehouse the item is held in now, applied as a guarded
+        // delta so concurrent postings are kept; changing the warehouse below does not move stock
+        if (itemDetails.getQuantity() != null) {
+            BigDecimal counted = itemDetails.getQuantity().subtract(StockPosition.of(item).quantity());
+            if (counted.signum() > 0) {
+                stockMutationService.increaseItem(item, item.getWarehouse(), counted);
+            } else if (counted.signum() < 0) {
+                stockMutationService.decreaseItem(item, item.getWarehouse(), counted.negate());
+            }
+            stockAdjustmentService.itemCounted(item, counted);
+        }
+        StockPosition before = StockPosition.of(item);
 
         item.setName(itemDetails.getName());
         item.setCategory(itemDetails.getCategory());
@@ -52,15 +91,20 @@ public class ItemServiceImpl implements ItemService{
         item.setUnit(itemDetails.getUnit());
         item.setPrice(itemDetails.getPrice());
         item.setDescription(itemDetails.getDescription());
-        item.setQuantity(itemDetails.getQuantity());
 
-        return itemRepository.save(item);
+        Item savedItem = itemRepository.save(item);
+        stockSummaryService.itemChanged(before, savedItem);
+        searchIndexService.itemSaved(savedItem);
+        return savedItem;
     }
     @Override
     public void deleteItem(Long id) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Item not found"));
         itemRepository.delete(item);
+        stockSummaryService.itemRemoved(item);
+        stockBalanceService.removeAll(EntityType.ITEMS, id);
+        searchIndexService.removed(SearchEntityType.ITEM, id);
     }
     @Override
     public List<Item> getItemsByCategory(Long categoryId) {
@@ -76,11 +120,19 @@ public class ItemServiceImpl implements ItemService{
     }
     @Override
     public List<Item> searchItemsByName(String name) {
-        return itemRepository.findByNameContaining(name);
+        if (!searchIndexService.isReady()) {
+            return itemRepository.findByNameContaining(name);
+        }
+        return itemRepository.findAllById(
+                searchIndexService.findContaining(SearchEntityType.ITEM, SearchField.NAME, name));
     }
     @Override
     public List<Item> searchItemsByCode(String code) {
-        return itemRepository.findByCodeContaining(code);
+        if (!searchIndexService.isReady()) {
+            return itemRepository.findByCodeContaining(code);
+        }
+        return itemRepository.findAllById(
+                searchIndexService.findContaining(SearchEntityType.ITEM, SearchField.CODE, code));
     }
 
     @Override
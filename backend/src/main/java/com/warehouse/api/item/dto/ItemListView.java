@@ -0,0 +1,26 @@
+package com.warehouse.api.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Flat row for item lists; built directly by a JPQL constructor expression
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemListView {
+
+    private Long itemId;
+    private String code;
+    private String name;
+    private Long categoryId;
+    private String categoryName;
+    private Long warehouseId;
+    private String warehouseName;
+    private Long unitId;
+    private String unitName;
+    private BigDecimal price;
+    private BigDecimal quantity;
+}
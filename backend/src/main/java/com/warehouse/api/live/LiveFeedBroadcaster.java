@@ -0,0 +1,249 @@
+package com.warehouse.api.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.warehouse.api.live.dto.StockDeltaEvent;
+import com.warehouse.api.live.dto.TransactionFeedEvent;
+import com.warehouse.api.transaction.TransactionEvent;
+import com.warehouse.enums.EntityType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes ledger postings and warehouse stock deltas to every open {@code /live/events} stream.
+ * <p>
+ * Postings come from the transaction outbox after each projection batch commits. Stock deltas are reported
+ * by {@link com.warehouse.api.stock.StockBalanceService} and the other writers of {@code stock_balance}, and
+ * are published when their transaction commits, so only changes that really moved stock are announced.
+ * <p>
+ * Each event is serialized once and put on every interested subscriber's own bounded queue; a virtual
+ * thread per subscriber writes the queue to its stream. Neither the caller nor the other subscribers ever
+ * wait on a slow client. A subscriber whose queue overflows, or whose stream fails a write, is disconnected.
+ */
+@Component
+public class LiveFeedBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveFeedBroadcaster.class);
+    private static final FeedMessage HEARTBEAT = new FeedMessage(null, "ping", null, null);
+
+    private final ObjectMapper objectMapper;
+    private final long streamTimeoutMillis;
+    private final int queueCapacity;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("live-feed-sender-", 0).factory());
+
+    public LiveFeedBroadcaster(ObjectMapper objectMapper,
+                               @Value("${live-feed.stream-timeout:PT30M}") Duration streamTimeout,
+                               @Value("${live-feed.subscriber-queue:256}") int queueCapacity) {
+        this.objectMapper = objectMapper;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        this.queueCapacity = queueCapacity;
+    }
+
+    // warehouseId null subscribes to every warehouse
+    public SseEmitter subscribe(Long warehouseId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, warehouseId, new ArrayBlockingQueue<>(queueCapacity));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // Publishes once the caller's transaction commits; a rolled back batch is never announced
+    public void publishAfterCommit(List<TransactionEvent> events) {
+        if (subscribers.isEmpty() || events.isEmpty()) {
+            return;
+        }
+        List<FeedMessage> messages = new ArrayList<>();
+        for (TransactionEvent event : events) {
+            messages.add(message("transaction", toFeedEvent(event), event.warehouseId(), event.sourceWarehouseId()));
+        }
+        afterCommit(() -> publish(messages));
+    }
+
+    /**
+     * Records a committed-to-be change of one warehouse balance. The deltas of a transaction are collected
+     * and published together after it commits; without a transaction they are published at once.
+     */
+    public void stockChanged(EntityType entityType, Long entityId, Long warehouseId, BigDecimal delta) {
+        if (subscribers.isEmpty() || warehouseId == null || delta == null || delta.signum() == 0) {
+            return;
+        }
+        StockDeltaEvent event = new StockDeltaEvent(entityType, entityId, warehouseId, delta);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(message("stock", event, warehouseId, null)));
+            return;
+        }
+        PendingStockDeltas pending = (PendingStockDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingStockDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(event);
+    }
+
+    // Keeps idle streams open through proxies and notices clients that went away
+    @Scheduled(fixedDelayString = "${live-feed.heartbeat:PT15S}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> enqueue(subscriber, HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void publish(List<FeedMessage> messages) {
+        for (Subscriber subscriber : subscribers) {
+            for (FeedMessage message : messages) {
+                if (subscriber.accepts(message) && !enqueue(subscriber, message)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    // Queues the message and makes sure a sender is draining the subscriber; false if it was disconnected
+    private boolean enqueue(Subscriber subscriber, FeedMessage message) {
+        if (!subscriber.queue().offer(message)) {
+            logger.debug("Live feed subscriber fell {} events behind, disconnecting", queueCapacity);
+            disconnect(subscriber, null);
+            return false;
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+        return true;
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            FeedMessage message;
+            while ((message = subscriber.queue().poll()) != null) {
+                if (!send(subscriber, message)) {
+                    return;
+                }
+            }
+            subscriber.draining().set(false);
+            // A message queued between the last poll and the reset would otherwise wait for the next one
+        } while (!subscriber.queue().isEmpty() && subscriber.draining().compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, FeedMessage message) {
+        try {
+            subscriber.emitter().send(message.name() == null
+                    ? SseEmitter.event().comment(message.json())
+                    : SseEmitter.event().name(message.name()).data(message.json()));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            disconnect(subscriber, e);
+            return false;
+        }
+    }
+
+    private void disconnect(Subscriber subscriber, Exception cause) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriber.queue().clear();
+        if (cause != null) {
+            subscriber.emitter().completeWithError(cause);
+        } else {
+            subscriber.emitter().complete();
+        }
+    }
+
+    private FeedMessage message(String name, Object payload, Long warehouseId, Long sourceWarehouseId) {
+        try {
+            return new FeedMessage(name, objectMapper.writeValueAsString(payload), warehouseId, sourceWarehouseId);
+        } catch (JsonProcessingException e) {
+            logger.error("Serializing live feed event failed", e);
+            throw new RuntimeException("Serializing live feed event failed", e);
+        }
+    }
+
+    private static TransactionFeedEvent toFeedEvent(TransactionEvent event) {
+        return new TransactionFeedEvent(event.transactionId(), event.eventType(), event.transactionType(),
+                event.entityType(), event.entityId(), event.warehouseId(), event.sourceWarehouseId(),
+                event.quantity(), event.totalPrice(), event.transactionDate());
+    }
+
+    // Stock deltas of one transaction, bound to it until it completes
+    private final class PendingStockDeltas implements TransactionSynchronization {
+
+        private final List<StockDeltaEvent> events = new ArrayList<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(LiveFeedBroadcaster.this);
+            if (status == STATUS_COMMITTED) {
+                publish(events.stream()
+                        .map(event -> message("stock", event, event.getWarehouseId(), null))
+                        .toList());
+            }
+        }
+    }
+
+    // name null marks an SSE comment
+    private record FeedMessage(String name, String json, Long warehouseId, Long sourceWarehouseId) {
+    }
+
+    private record Subscriber(SseEmitter emitter, Long warehouseId, BlockingQueue<FeedMessage> queue,
+                              AtomicBoolean draining) {
+
+        Subscriber(SseEmitter emitter, Long warehouseId, BlockingQueue<FeedMessage> queue) {
+            this(emitter, warehouseId, queue, new AtomicBoolean());
+        }
+
+        boolean accepts(FeedMessage message) {
+            return warehouseId == null
+                    || message.warehouseId() == null
+                    || Objects.equals(warehouseId, message.warehouseId())
+                    || Objects.equals(warehouseId, message.sourceWarehouseId());
+        }
+    }
+}
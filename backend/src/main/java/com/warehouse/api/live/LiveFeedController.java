@@ -0,0 +1,21 @@
+package com.warehouse.api.live;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/live")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequiredArgsConstructor
+public class LiveFeedController {
+
+    private final LiveFeedBroadcaster liveFeedBroadcaster;
+
+    // Server-sent events: "transaction" for each ledger posting, "stock" for each warehouse stock delta
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(required = false) Long warehouseId) {
+        return liveFeedBroadcaster.subscribe(warehouseId);
+    }
+}
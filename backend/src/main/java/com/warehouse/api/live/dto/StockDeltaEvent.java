@@ -0,0 +1,19 @@
+package com.warehouse.api.live.dto;
+
+import com.warehouse.enums.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Signed change of one item or product in one warehouse, published once the change has committed
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockDeltaEvent {
+    private EntityType entityType;
+    private Long entityId;
+    private Long warehouseId;
+    private BigDecimal delta;
+}
@@ -0,0 +1,27 @@
+package com.warehouse.api.live.dto;
+
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.TransactionEventType;
+import com.warehouse.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionFeedEvent {
+    private Long transactionId;
+    private TransactionEventType eventType;
+    private TransactionType transactionType;
+    private EntityType entityType;
+    private Long entityId;
+    private Long warehouseId;
+    private Long sourceWarehouseId;
+    private BigDecimal quantity;
+    private BigDecimal totalPrice;
+    private LocalDateTime transactionDate;
+}
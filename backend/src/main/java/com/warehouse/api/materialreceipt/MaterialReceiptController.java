@@ -1,5 +1,6 @@
 package com.warehouse.api.materialreceipt;
 
+import com.warehouse.api.materialreceipt.dto.MaterialReceiptListView;
 import com.warehouse.enums.MaterialReceiptStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,11 @@ public class MaterialReceiptController {
         return ResponseEntity.ok(materialReceiptService.getAllMaterialReceipts());
     }
 
+    @GetMapping("/list")
+    public ResponseEntity<List<MaterialReceiptListView>> getMaterialReceiptListViews() {
+        return ResponseEntity.ok(materialReceiptService.getMaterialReceiptListViews());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MaterialReceipt> getMaterialReceiptById(@PathVariable Long id) {
         MaterialReceipt materialReceipt = materialReceiptService.getMaterialReceiptById(id)
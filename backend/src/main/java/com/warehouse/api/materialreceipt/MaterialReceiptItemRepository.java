@@ -1,11 +1,17 @@
 package com.warehouse.api.materialreceipt;
 
 import com.warehouse.api.item.Item;
+import com.warehouse.enums.MaterialReceiptStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,4 +26,20 @@ public interface MaterialReceiptItemRepository extends JpaRepository<MaterialRec
     
     @Query("SELECT mri FROM MaterialReceiptItem mri WHERE mri.item.itemId = :itemId")
     List<MaterialReceiptItem> findByItemId(@Param("itemId") Long itemId);
+    
+    // Read-only: receiving writes the lines with one bulk update, so the loaded copies must not be flushed line by line
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT mri FROM MaterialReceiptItem mri JOIN FETCH mri.item WHERE mri.materialReceipt.receiptId = :receiptId")
+    List<MaterialReceiptItem> findWithItemByReceiptId(@Param("receiptId") Long receiptId);
+    
+    // Quantity still to arrive per item on receipts in the given states: [itemId, openQuantity]
+    @Query("SELECT mri.item.itemId, SUM(mri.orderedQuantity - COALESCE(mri.receivedQuantity, 0)) FROM MaterialReceiptItem mri " +
+           "WHERE mri.materialReceipt.status IN :statuses AND mri.item IS NOT NULL GROUP BY mri.item.itemId")
+    List<Object[]> sumOpenQuantityByItem(@Param("statuses") Collection<MaterialReceiptStatus> statuses);
+    
+    // Runs after the ledger rows are queued, so flush first. The context is kept: the caller mirrors the change
+    // on its read-only lines, and clearing would detach the header it still has to save
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MaterialReceiptItem mri SET mri.receivedQuantity = mri.orderedQuantity WHERE mri.materialReceipt.receiptId = :receiptId")
+    int markAllReceived(@Param("receiptId") Long receiptId);
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.warehouse.api.materialreceipt;
 
+import com.warehouse.api.materialreceipt.dto.MaterialReceiptListView;
 import com.warehouse.api.user.User;
 import com.warehouse.api.warehouse.Warehouse;
 import com.warehouse.enums.MaterialReceiptStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +20,11 @@ public interface MaterialReceiptRepository extends JpaRepository<MaterialReceipt
     
     Optional<MaterialReceipt> findByReceiptNumber(String receiptNumber);
     
+    // Receiving holds the header row, so a second receive of the same receipt waits and then sees RECEIVED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT mr FROM MaterialReceipt mr WHERE mr.receiptId = :receiptId")
+    Optional<MaterialReceipt> findByIdForUpdate(@Param("receiptId") Long receiptId);
+    
     List<MaterialReceipt> findByStatus(MaterialReceiptStatus status);
     
     List<MaterialReceipt> findByWarehouse(Warehouse warehouse);
@@ -38,4 +46,10 @@ public interface MaterialReceiptRepository extends JpaRepository<MaterialReceipt
     
     @Query("SELECT mr FROM MaterialReceipt mr ORDER BY mr.receiptDate DESC")
     List<MaterialReceipt> findAllOrderByReceiptDateDesc();
+    
+    @Query("SELECT new com.warehouse.api.materialreceipt.dto.MaterialReceiptListView(mr.receiptId, mr.receiptNumber, " +
+           "w.warehouseId, w.name, u.userId, u.fullName, mr.status, mr.receiptDate, mr.receivedDate, mr.totalAmount, " +
+           "mr.supplier, mr.notes) FROM MaterialReceipt mr LEFT JOIN mr.warehouse w LEFT JOIN mr.user u " +
+           "ORDER BY mr.receiptDate DESC")
+    List<MaterialReceiptListView> findAllListViews();
 }
\ No newline at end of file
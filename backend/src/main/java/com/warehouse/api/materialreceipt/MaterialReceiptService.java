@@ -1,5 +1,6 @@
 package com.warehouse.api.materialreceipt;
 
+import com.warehouse.api.materialreceipt.dto.MaterialReceiptListView;
 import com.warehouse.enums.MaterialReceiptStatus;
 
 import java.time.LocalDateTime;
@@ -10,6 +11,8 @@ public interface MaterialReceiptService {
 
     List<MaterialReceipt> getAllMaterialReceipts();
 
+    List<MaterialReceiptListView> getMaterialReceiptListViews();
+
     Optional<MaterialReceipt> getMaterialReceiptById(Long id);
 
     Optional<MaterialReceipt> getMaterialReceiptByNumber(String receiptNumber);
@@ -2,20 +2,30 @@ package com.warehouse.api.materialreceipt;
 
 import com.warehouse.api.item.Item;
 import com.warehouse.api.item.ItemRepository;
+import com.warehouse.api.materialreceipt.dto.MaterialReceiptListView;
+import com.warehouse.api.search.SearchField;
+import com.warehouse.api.search.SearchIndexService;
+import com.warehouse.api.stock.ItemQuantity;
+import com.warehouse.api.stock.StockMutationService;
 import com.warehouse.api.transaction.Transaction;
+import com.warehouse.api.transaction.TransactionOutboxService;
 import com.warehouse.api.transaction.TransactionRepository;
 import com.warehouse.api.user.UserRepository;
 import com.warehouse.api.warehouse.WarehouseRepository;
 import com.warehouse.enums.EntityType;
 import com.warehouse.enums.MaterialReceiptStatus;
+import com.warehouse.enums.SearchEntityType;
 import com.warehouse.enums.TransactionStatus;
 import com.warehouse.enums.TransactionType;
+import com.warehouse.numbering.DocumentNumberService;
+import com.warehouse.numbering.DocumentType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,12 +40,22 @@ public class MaterialReceiptServiceImpl implements MaterialReceiptService {
     private final UserRepository userRepository;
     private final WarehouseRepository warehouseRepository;
     private final TransactionRepository transactionRepository;
+    private final StockMutationService stockMutationService;
+    private final TransactionOutboxService transactionOutboxService;
+    private final DocumentNumberService documentNumberService;
+    private final SearchIndexService searchIndexService;
 
     @Override
     public List<MaterialReceipt> getAllMaterialReceipts() {
         return materialReceiptRepository.findAllOrderByReceiptDateDesc();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<MaterialReceiptListView> getMaterialReceiptListViews() {
+        return materialReceiptRepository.findAllListViews();
+    }
+
     @Override
     public Optional<MaterialReceipt> getMaterialReceiptById(Long id) {
         return materialReceiptRepository.findById(id);
@@ -53,7 +73,9 @@ public class MaterialReceiptServiceImpl implements MaterialReceiptService {
             materialReceipt.setReceiptNumber(generateReceiptNumber());
         }
         
-        return materialReceiptRepository.save(materialReceipt);
+        MaterialReceipt savedMaterialReceipt = materialReceiptRepository.save(materialReceipt);
+        searchIndexService.materialReceiptSaved(savedMaterialReceipt);
+        return savedMaterialReceipt;
     }
 
     @Override
@@ -70,7 +92,9 @@ public class MaterialReceiptServiceImpl implements MaterialReceiptService {
         materialReceipt.setNotes(materialReceiptDetails.getNotes());
         materialReceipt.setSupplier(materialReceiptDetails.getSupplier());
 
-        return materialReceiptRepository.save(materialReceipt);
+        MaterialReceipt savedMaterialReceipt = materialReceiptRepository.save(materialReceipt);
+        searchIndexService.materialReceiptSaved(savedMaterialReceipt);
+        return savedMaterialReceipt;
     }
 
     @Override
@@ -78,6 +102,7 @@ public class MaterialReceiptServiceImpl implements MaterialReceiptService {
         MaterialReceipt materialReceipt = materialReceiptRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Material receipt not found"));
         materialReceiptRepository.delete(materialReceipt);
+        searchIndexService.removed(SearchEntityType.MATERIAL_RECEIPT, id);
     }
 
     @Override
@@ -102,27 +127,31 @@ public class MaterialReceiptServiceImpl implements MaterialReceiptService {
 
     @Override
     public List<MaterialReceipt> searchMaterialReceiptsBySupplier(String supplier) {
-        return materialReceiptRepository.findBySupplierContaining(supplier);
+        if (!searchIndexService.isReady()) {
+            return materialReceiptRepository.findBySupplierContaining(supplier);
+        }
+        return materialReceiptRepository.findAllById(
+                searchIndexService.findContaining(SearchEntityType.MATERIAL_RECEIPT, SearchField.SUPPLIER, supplier));
     }
 
     @Override
     public MaterialReceipt receiveMaterialReceipt(Long receiptId) {
-        MaterialReceipt materialReceipt = materialReceiptRepository.findById(receiptId)
+        MaterialReceipt materialReceipt = materialReceiptRepository.findByIdForUpdate(receiptId)
                 .orElseThrow(() -> new RuntimeException("Material receipt not found"));
 
         if (materialReceipt.getStatus() != MaterialReceiptStatus.PENDING) {
             throw new RuntimeException("Material receipt can only be received from PENDING status");
         }
 
-        // Add all receipt items to inventory and create transactions
-        List<MaterialReceiptItem> receiptItems = materialReceiptItemRepository.findByMaterialReceipt(materialReceipt);
+        // Post the whole delivery set-based: one stock batch, one batched ledger insert and one line update
+        List<MaterialReceiptItem> receiptItems = materialReceiptItemRepository.findWithItemByReceiptId(materialReceipt.getReceiptId());
+        LocalDateTime receivedDate = LocalDateTime.now();
+        List<ItemQuantity> stockLines = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
         for (MaterialReceiptItem receiptItem : receiptItems) {
             Item item = receiptItem.getItem();
-            
-            // Update item quantity
-            BigDecimal newQuantity = item.getQuantity().add(receiptItem.getOrderedQuantity());
-            item.setQuantity(newQuantity);
-            itemRepository.save(item);
+            stockLines.add(new ItemQuantity(item, receiptItem.getOrderedQuantity()));
+            receiptItem.setReceivedQuantity(receiptItem.getOrderedQuantity());
 
             // Create inbound transaction
             Transaction transaction = new Transaction();
@@ -135,18 +164,18 @@ public class MaterialReceiptServiceImpl implements MaterialReceiptService {
             transaction.setUnitPrice(receiptItem.getUnitPrice());
             transaction.setTotalPrice(receiptItem.getTotalPrice());
             transaction.setStatus(TransactionStatus.COMPLETED);
-            transaction.setTransactionDate(LocalDateTime.now());
+            transaction.setTransactionDate(receivedDate);
             transaction.setReferenceNumber("RECEIPT-" + materialReceipt.getReceiptNumber());
             transaction.setNotes("Material received - " + materialReceipt.getReceiptNumber() + " from " + materialReceipt.getSupplier());
-            transactionRepository.save(transaction);
-
-            // Update received quantity
-            receiptItem.setReceivedQuantity(receiptItem.getOrderedQuantity());
-            materialReceiptItemRepository.save(receiptItem);
+            transactions.add(transaction);
         }
 
+        stockMutationService.increaseItems(stockLines, materialReceipt.getWarehouse());
+        transactionOutboxService.recordedAll(transactionRepository.saveAll(transactions));
+        materialReceiptItemRepository.markAllReceived(materialReceipt.getReceiptId());
+
         materialReceipt.setStatus(MaterialReceiptStatus.RECEIVED);
-        materialReceipt.setReceivedDate(LocalDateTime.now());
+        materialReceipt.setReceivedDate(receivedDate);
         return materialReceiptRepository.save(materialReceipt);
     }
 
@@ -234,6 +263,6 @@ public class MaterialReceiptServiceImpl implements MaterialReceiptService {
     }
 
     private String generateReceiptNumber() {
-        return "REC-" + System.currentTimeMillis();
+        return documentNumberService.next(DocumentType.MATERIAL_RECEIPT);
     }
 }
\ No newline at end of file
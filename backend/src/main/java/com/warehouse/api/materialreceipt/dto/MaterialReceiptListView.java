@@ -0,0 +1,29 @@
+package com.warehouse.api.materialreceipt.dto;
+
+import com.warehouse.enums.MaterialReceiptStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Flat row for material receipt lists; built directly by a JPQL constructor expression
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialReceiptListView {
+
+    private Long receiptId;
+    private String receiptNumber;
+    private Long warehouseId;
+    private String warehouseName;
+    private Long userId;
+    private String userFullName;
+    private MaterialReceiptStatus status;
+    private LocalDateTime receiptDate;
+    private LocalDateTime receivedDate;
+    private BigDecimal totalAmount;
+    private String supplier;
+    private String notes;
+}
@@ -1,5 +1,6 @@
 package com.warehouse.api.order;
 
+import com.warehouse.api.order.dto.OrderListView;
 import com.warehouse.enums.OrderStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,11 @@ public class OrderController {
         return ResponseEntity.ok(orderService.getAllOrders());
     }
 
+    @GetMapping("/list")
+    public ResponseEntity<List<OrderListView>> getOrderListViews() {
+        return ResponseEntity.ok(orderService.getOrderListViews());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
         Order order = orderService.getOrderById(id)
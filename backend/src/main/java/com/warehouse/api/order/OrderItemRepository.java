@@ -1,11 +1,17 @@
 package com.warehouse.api.order;
 
 import com.warehouse.api.item.Item;
+import com.warehouse.enums.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,4 +26,20 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     
     @Query("SELECT oi FROM OrderItem oi WHERE oi.item.itemId = :itemId")
     List<OrderItem> findByItemId(@Param("itemId") Long itemId);
+    
+    // Read-only: receiving writes the lines with one bulk update, so the loaded copies must not be flushed line by line
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.item WHERE oi.order.orderId = :orderId")
+    List<OrderItem> findWithItemByOrderId(@Param("orderId") Long orderId);
+    
+    // Quantity still to arrive per item on orders in the given states: [itemId, openQuantity]
+    @Query("SELECT oi.item.itemId, SUM(oi.orderedQuantity - COALESCE(oi.receivedQuantity, 0)) FROM OrderItem oi " +
+           "WHERE oi.order.status IN :statuses AND oi.item IS NOT NULL GROUP BY oi.item.itemId")
+    List<Object[]> sumOpenQuantityByItem(@Param("statuses") Collection<OrderStatus> statuses);
+    
+    // Runs after the ledger rows are queued, so flush first. The context is kept: the caller mirrors the change
+    // on its read-only lines, and clearing would detach the header it still has to save
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OrderItem oi SET oi.receivedQuantity = oi.orderedQuantity WHERE oi.order.orderId = :orderId")
+    int markAllReceived(@Param("orderId") Long orderId);
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.warehouse.api.order;
 
+import com.warehouse.api.order.dto.OrderListView;
 import com.warehouse.api.user.User;
 import com.warehouse.api.warehouse.Warehouse;
 import com.warehouse.enums.OrderStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +20,11 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     
     Optional<Order> findByOrderNumber(String orderNumber);
     
+    // Receiving holds the header row, so a second receive of the same order waits and then sees RECEIVED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.orderId = :orderId")
+    Optional<Order> findByIdForUpdate(@Param("orderId") Long orderId);
+    
     List<Order> findByStatus(OrderStatus status);
     
     List<Order> findByWarehouse(Warehouse warehouse);
@@ -38,4 +46,9 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     
     @Query("SELECT o FROM Order o ORDER BY o.orderDate DESC")
     List<Order> findAllOrderByOrderDateDesc();
+    
+    @Query("SELECT new com.warehouse.api.order.dto.OrderListView(o.orderId, o.orderNumber, w.warehouseId, w.name, " +
+           "u.userId, u.fullName, o.status, o.orderDate, o.receivedDate, o.totalAmount, o.supplier, o.notes) " +
+           "FROM Order o LEFT JOIN o.warehouse w LEFT JOIN o.user u ORDER BY o.orderDate DESC")
+    List<OrderListView> findAllListViews();
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.warehouse.api.order;
 
+import com.warehouse.api.order.dto.OrderListView;
 import com.warehouse.enums.OrderStatus;
 
 import java.time.LocalDateTime;
@@ -10,6 +11,8 @@ public interface OrderService {
 
     List<Order> getAllOrders();
 
+    List<OrderListView> getOrderListViews();
+
     Optional<Order> getOrderById(Long id);
 
     Optional<Order> getOrderByNumber(String orderNumber);
@@ -2,20 +2,30 @@ package com.warehouse.api.order;
 
 import com.warehouse.api.item.Item;
 import com.warehouse.api.item.ItemRepository;
+import com.warehouse.api.order.dto.OrderListView;
+import com.warehouse.api.search.SearchField;
+import com.warehouse.api.search.SearchIndexService;
+import com.warehouse.api.stock.ItemQuantity;
+import com.warehouse.api.stock.StockMutationService;
 import com.warehouse.api.transaction.Transaction;
+import com.warehouse.api.transaction.TransactionOutboxService;
 import com.warehouse.api.transaction.TransactionRepository;
 import com.warehouse.api.user.UserRepository;
 import com.warehouse.api.warehouse.WarehouseRepository;
 import com.warehouse.enums.EntityType;
 import com.warehouse.enums.OrderStatus;
+import com.warehouse.enums.SearchEntityType;
 import com.warehouse.enums.TransactionStatus;
 import com.warehouse.enums.TransactionType;
+import com.warehouse.numbering.DocumentNumberService;
+import com.warehouse.numbering.DocumentType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,12 +40,22 @@ public class OrderServiceImpl implements OrderService {
     private final UserRepository userRepository;
     private final WarehouseRepository warehouseRepository;
     private final TransactionRepository transactionRepository;
+    private final StockMutationService stockMutationService;
+    private final TransactionOutboxService transactionOutboxService;
+    private final DocumentNumberService documentNumberService;
+    private final SearchIndexService searchIndexService;
 
     @Override
     public List<Order> getAllOrders() {
         return orderRepository.findAllOrderByOrderDateDesc();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderListView> getOrderListViews() {
+        return orderRepository.findAllListViews();
+    }
+
     @Override
     public Optional<Order> getOrderById(Long id) {
         return orderRepository.findById(id);
@@ -53,7 +73,9 @@ public class OrderServiceImpl implements OrderService {
             order.setOrderNumber(generateOrderNumber());
         }
         
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        searchIndexService.orderSaved(savedOrder);
+        return savedOrder;
     }
 
     @Override
@@ -70,7 +92,9 @@ public class OrderServiceImpl implements OrderService {
         order.setNotes(orderDetails.getNotes());
         order.setSupplier(orderDetails.getSupplier());
 
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        searchIndexService.orderSaved(savedOrder);
+        return savedOrder;
     }
 
     @Override
@@ -78,6 +102,7 @@ public class OrderServiceImpl implements OrderService {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
         orderRepository.delete(order);
+        searchIndexService.removed(SearchEntityType.ORDER, id);
     }
 
     @Override
@@ -102,7 +127,11 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public List<Order> searchOrdersBySupplier(String supplier) {
-        return orderRepository.findBySupplierContaining(supplier);
+        if (!searchIndexService.isReady()) {
+            return orderRepository.findBySupplierContaining(supplier);
+        }
+        return orderRepository.findAllById(
+                searchIndexService.findContaining(SearchEntityType.ORDER, SearchField.SUPPLIER, supplier));
     }
 
     @Override
@@ -120,22 +149,22 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public Order receiveOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
 
         if (order.getStatus() != OrderStatus.CONFIRMED) {
             throw new RuntimeException("Order can only be received from CONFIRMED status");
         }
 
-        // Add all order items to inventory and create transactions
-        List<OrderItem> orderItems = orderItemRepository.findByOrder(order);
+        // Post the whole delivery set-based: one stock batch, one batched ledger insert and one line update
+        List<OrderItem> orderItems = orderItemRepository.findWithItemByOrderId(order.getOrderId());
+        LocalDateTime receivedDate = LocalDateTime.now();
+        List<ItemQuantity> stockLines = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
         for (OrderItem orderItem : orderItems) {
             Item item = orderItem.getItem();
-            
-            // Update item quantity
-            BigDecimal newQuantity = item.getQuantity().add(orderItem.getOrderedQuantity());
-            item.setQuantity(newQuantity);
-            itemRepository.save(item);
+            stockLines.add(new ItemQuantity(item, orderItem.getOrderedQuantity()));
+            orderItem.setReceivedQuantity(orderItem.getOrderedQuantity());
 
             // Create inbound transaction
             Transaction transaction = new Transaction();
@@ -148,18 +177,18 @@ public class OrderServiceImpl implements OrderService {
             transaction.setUnitPrice(orderItem.getUnitPrice());
             transaction.setTotalPrice(orderItem.getTotalPrice());
             transaction.setStatus(TransactionStatus.COMPLETED);
-            transaction.setTransactionDate(LocalDateTime.now());
+            transaction.setTransactionDate(receivedDate);
             transaction.setReferenceNumber("ORDER-" + order.getOrderNumber());
             transaction.setNotes("Order received - " + order.getOrderNumber() + " from " + order.getSupplier());
-            transactionRepository.save(transaction);
-
-            // Update received quantity
-            orderItem.setReceivedQuantity(orderItem.getOrderedQuantity());
-            orderItemRepository.save(orderItem);
+            transactions.add(transaction);
         }
 
+        stockMutationService.increaseItems(stockLines, order.getWarehouse());
+        transactionOutboxService.recordedAll(transactionRepository.saveAll(transactions));
+        orderItemRepository.markAllReceived(order.getOrderId());
+
         order.setStatus(OrderStatus.RECEIVED);
-        order.setReceivedDate(LocalDateTime.now());
+        order.setReceivedDate(receivedDate);
         return orderRepository.save(order);
     }
 
@@ -247,6 +276,6 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private String generateOrderNumber() {
-        return "ORD-" + System.currentTimeMillis();
+        return documentNumberService.next(DocumentType.ORDER);
     }
 }
\ No newline at end of file
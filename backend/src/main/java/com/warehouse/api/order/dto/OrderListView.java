@@ -0,0 +1,29 @@
+package com.warehouse.api.order.dto;
+
+import com.warehouse.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Flat row for order lists; built directly by a JPQL constructor expression
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderListView {
+
+    private Long orderId;
+    private String orderNumber;
+    private Long warehouseId;
+    private String warehouseName;
+    private Long userId;
+    private String userFullName;
+    private OrderStatus status;
+    private LocalDateTime orderDate;
+    private LocalDateTime receivedDate;
+    private BigDecimal totalAmount;
+    private String supplier;
+    private String notes;
+}
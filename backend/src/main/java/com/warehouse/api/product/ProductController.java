@@ -1,5 +1,6 @@
 package com.warehouse.api.product;
 
+import com.warehouse.api.product.dto.ProductListView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +25,11 @@ public class ProductController {
         return ResponseEntity.ok(productService.getAllProducts());
     }
 
+    @GetMapping("/list")
+    public ResponseEntity<List<ProductListView>> getProductListViews() {
+        return ResponseEntity.ok(productService.getProductListViews());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Product> getProductById(@PathVariable Long id) {
         Product product = productService.getProductById(id)
@@ -1,15 +1,17 @@
 package com.warehouse.api.product;
 
 import com.warehouse.api.category.Category;
+import com.warehouse.api.product.dto.ProductListView;
 import com.warehouse.api.warehouse.Warehouse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -29,8 +31,19 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByCodeContaining(@Param("code") String code);
     
     @Query("SELECT p FROM Product p WHERE p.warehouse.id = :warehouseId")
-    List<Product> findByWarehouseId(@Param("warehouseId") UUID warehouseId);
+    List<Product> findByWarehouseId(@Param("warehouseId") Long warehouseId);
     
     @Query("SELECT p FROM Product p WHERE p.category.id = :categoryId")
-    List<Product> findByCategoryId(@Param("categoryId") UUID categoryId);
+    List<Product> findByCategoryId(@Param("categoryId") Long categoryId);
+    
+    // A decrease may not take the quantity below zero; an increase always applies
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.quantity = COALESCE(p.quantity, 0) + :delta " +
+           "WHERE p.productId = :productId AND (:delta >= 0 OR COALESCE(p.quantity, 0) + :delta >= 0)")
+    int applyQuantityDelta(@Param("productId") Long productId, @Param("delta") BigDecimal delta);
+    
+    @Query("SELECT new com.warehouse.api.product.dto.ProductListView(p.productId, p.code, p.name, c.categoryId, c.name, " +
+           "w.warehouseId, w.name, u.unitId, u.name, p.totalCostPrice, p.salePrice, p.quantity) FROM Product p " +
+           "LEFT JOIN p.category c LEFT JOIN p.warehouse w LEFT JOIN p.unit u ORDER BY p.name")
+    List<ProductListView> findAllListViews();
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.warehouse.api.product;
 
+import com.warehouse.api.product.dto.ProductListView;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +10,8 @@ public interface ProductService {
 
     public List<Product> getAllProducts();
 
+    public List<ProductListView> getProductListViews();
+
     public Optional<Product> getProductById(Long id);
 
     public Optional<Product> getProductByCode(String code);
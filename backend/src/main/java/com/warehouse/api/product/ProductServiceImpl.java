@@ -2,14 +2,25 @@ package com.warehouse.api.product;
 
 import com.warehouse.api.category.Category;
 import com.warehouse.api.category.CategoryRepository;
+import com.warehouse.api.dashboard.StockPosition;
+import com.warehouse.api.dashboard.WarehouseStockSummaryService;
+import com.warehouse.api.product.dto.ProductListView;
+import com.warehouse.api.search.SearchField;
+import com.warehouse.api.search.SearchIndexService;
+import com.warehouse.api.stock.StockBalanceService;
+import com.warehouse.api.stock.StockMutationService;
+import com.warehouse.api.transaction.StockAdjustmentService;
 import com.warehouse.api.unit.UnitRepository;
 import com.warehouse.api.warehouse.Warehouse;
 import com.warehouse.api.warehouse.WarehouseRepository;
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.SearchEntityType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,12 +35,22 @@ public class ProductServiceImpl implements ProductService{
     private final CategoryRepository categoryRepository;
     private final WarehouseRepository warehouseRepository;
     private final UnitRepository unitRepository;
+    private final WarehouseStockSummaryService stockSummaryService;
+    private final SearchIndexService searchIndexService;
+    private final StockBalanceService stockBalanceService;
+    private final StockAdjustmentService stockAdjustmentService;
+    private final StockMutationService stockMutationService;
 
     @Override
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
     @Override
+    @Transactional(readOnly = true)
+    public List<ProductListView> getProductListViews() {
+        return productRepository.findAllListViews();
+    }
+    @Override
     public Optional<Product> getProductById(Long id) {
         return productRepository.findById(id);
     }
@@ -42,12 +63,30 @@ public class ProductServiceImpl implements ProductService{
         if (productRepository.existsByCode(product.getCode())) {
             throw new RuntimeException("Product code already exists");
         }
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        stockSummaryService.productAdded(savedProduct);
+        StockPosition position = StockPosition.of(savedProduct);
+        stockBalanceService.add(EntityType.PRODUCTS, savedProduct.getProductId(), position.warehouseId(), position.quantity());
+        stockAdjustmentService.productOpened(savedProduct);
+        searchIndexService.productSaved(savedProduct);
+        return savedProduct;
     }
     @Override
     public Product updateProduct(Long id, Product productDetails) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
+        // A quantity edit is a stock count at the warehouse the product is held in now, applied as a guarded
+        // delta so concurrent postings are kept; changing the warehouse below does not move stock
+        if (productDetails.getQuantity() != null) {
+            BigDecimal counted = productDetails.getQuantity().subtract(StockPosition.of(product).quantity());
+            if (counted.signum() > 0) {
+                stockMutationService.increaseProduct(product, product.getWarehouse(), counted);
+            } else if (counted.signum() < 0) {
+                stockMutationService.decreaseProduct(product, product.getWarehouse(), counted.negate());
+            }
+            stockAdjustmentService.productCounted(product, counted);
+        }
+        StockPosition before = StockPosition.of(product);
 
         product.setName(productDetails.getName());
         product.setCategory(productDetails.getCategory());
@@ -56,15 +95,20 @@ public class ProductServiceImpl implements ProductService{
         product.setTotalCostPrice(productDetails.getTotalCostPrice());
         product.setSalePrice(productDetails.getSalePrice());
         product.setDescription(productDetails.getDescription());
-        product.setQuantity(productDetails.getQuantity());
 
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        stockSummaryService.productChanged(before, savedProduct);
+        searchIndexService.productSaved(savedProduct);
+        return savedProduct;
     }
     @Override
     public void deleteProduct(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
         productRepository.delete(product);
+        stockSummaryService.productRemoved(product);
+        stockBalanceService.removeAll(EntityType.PRODUCTS, id);
+        searchIndexService.removed(SearchEntityType.PRODUCT, id);
     }
     @Override
     public List<Product> getProductsByCategory(Long categoryId) {
@@ -80,11 +124,19 @@ public class ProductServiceImpl implements ProductService{
     }
     @Override
     public List<Product> searchProductsByName(String name) {
-        return productRepository.findByNameContaining(name);
+        if (!searchIndexService.isReady()) {
+            return productRepository.findByNameContaining(name);
+        }
+        return productRepository.findAllById(
+                searchIndexService.findContaining(SearchEntityType.PRODUCT, SearchField.NAME, name));
     }
     @Override
     public List<Product> searchProductsByCode(String code) {
-        return productRepository.findByCodeContaining(code);
+        if (!searchIndexService.isReady()) {
+            return productRepository.findByCodeContaining(code);
+        }
+        return productRepository.findAllById(
+                searchIndexService.findContaining(SearchEntityType.PRODUCT, SearchField.CODE, code));
     }
     @Override
     public boolean existsByCode(String code) {
@@ -0,0 +1,27 @@
+package com.warehouse.api.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Flat row for product lists; built directly by a JPQL constructor expression
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductListView {
+
+    private Long productId;
+    private String code;
+    private String name;
+    private Long categoryId;
+    private String categoryName;
+    private Long warehouseId;
+    private String warehouseName;
+    private Long unitId;
+    private String unitName;
+    private BigDecimal totalCostPrice;
+    private BigDecimal salePrice;
+    private BigDecimal quantity;
+}
@@ -0,0 +1,132 @@
+package com.warehouse.api.production;
+
+import com.warehouse.api.item.ItemRepository;
+import com.warehouse.api.materialreceipt.MaterialReceiptItemRepository;
+import com.warehouse.api.order.OrderItemRepository;
+import com.warehouse.api.production.dto.MrpItemLine;
+import com.warehouse.api.production.dto.MrpReport;
+import com.warehouse.api.production.dto.MrpShortage;
+import com.warehouse.enums.MaterialReceiptStatus;
+import com.warehouse.enums.OrderStatus;
+import com.warehouse.enums.ProductionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Material requirements over all open productions. Everything comes from five grouped queries (requirements
+ * per item and day, open order and receipt quantities per item, item stock, production count), so the cost
+ * depends on the number of distinct items and days, not on the number of productions or lines.
+ * <p>
+ * Stock reserved for a production still counts as on hand here: reservations only exist for PLANNED runs,
+ * whose requirements are part of the report.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MrpService {
+
+    private static final List<ProductionStatus> OPEN_PRODUCTIONS = List.of(ProductionStatus.PLANNED, ProductionStatus.ON_HOLD);
+    private static final List<OrderStatus> OPEN_ORDERS = List.of(OrderStatus.PENDING, OrderStatus.CONFIRMED);
+    private static final List<MaterialReceiptStatus> OPEN_RECEIPTS = List.of(MaterialReceiptStatus.PENDING);
+
+    // Productions without a planned date are needed at some point; they are netted after all dated ones
+    private static final Comparator<LocalDate> PLANNED_DAY_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final ProductionRepository productionRepository;
+    private final ProductionItemRepository productionItemRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final MaterialReceiptItemRepository materialReceiptItemRepository;
+    private final ItemRepository itemRepository;
+
+    public MrpReport getReport() {
+        Map<Long, Map<LocalDate, BigDecimal>> requirements = new TreeMap<>();
+        List<String> statuses = OPEN_PRODUCTIONS.stream().map(Enum::name).toList();
+        for (Object[] row : productionItemRepository.sumRequirementsByItemAndDay(statuses)) {
+            requirements.computeIfAbsent(toLong(row[0]), itemId -> new TreeMap<>(PLANNED_DAY_ORDER))
+                    .merge(toLocalDate(row[1]), toDecimal(row[2]), BigDecimal::add);
+        }
+        long openProductions = productionRepository.countByStatusIn(OPEN_PRODUCTIONS);
+        if (requirements.isEmpty()) {
+            return new MrpReport(LocalDateTime.now(), openProductions, List.of(), List.of());
+        }
+
+        Map<Long, BigDecimal> openOrders = sumByItem(orderItemRepository.sumOpenQuantityByItem(OPEN_ORDERS));
+        Map<Long, BigDecimal> openReceipts = sumByItem(materialReceiptItemRepository.sumOpenQuantityByItem(OPEN_RECEIPTS));
+        Map<Long, Object[]> stock = new HashMap<>();
+        for (Object[] row : itemRepository.findStockByIds(requirements.keySet())) {
+            stock.put(toLong(row[0]), row);
+        }
+
+        List<MrpItemLine> lines = new ArrayList<>();
+        List<MrpShortage> shortages = new ArrayList<>();
+        for (Map.Entry<Long, Map<LocalDate, BigDecimal>> entry : requirements.entrySet()) {
+            Long itemId = entry.getKey();
+            Object[] item = stock.get(itemId);
+            String code = item != null ? (String) item[1] : null;
+            String name = item != null ? (String) item[2] : null;
+            BigDecimal onHand = item != null ? toDecimal(item[3]) : BigDecimal.ZERO;
+            BigDecimal ordered = openOrders.getOrDefault(itemId, BigDecimal.ZERO);
+            BigDecimal receiving = openReceipts.getOrDefault(itemId, BigDecimal.ZERO);
+            BigDecimal supply = onHand.add(ordered).add(receiving);
+
+            // Walk the planned days in order; the first day the running requirement passes supply is short
+            BigDecimal cumulative = BigDecimal.ZERO;
+            LocalDate firstShortageDate = null;
+            for (Map.Entry<LocalDate, BigDecimal> day : entry.getValue().entrySet()) {
+                cumulative = cumulative.add(day.getValue());
+                BigDecimal projected = supply.subtract(cumulative);
+                if (projected.signum() < 0) {
+                    if (firstShortageDate == null) {
+                        firstShortageDate = day.getKey();
+                    }
+                    shortages.add(new MrpShortage(day.getKey(), itemId, code, name, day.getValue(), cumulative,
+                            projected, projected.negate().min(day.getValue())));
+                }
+            }
+            lines.add(new MrpItemLine(itemId, code, name, onHand, ordered, receiving, cumulative,
+                    supply.subtract(cumulative), firstShortageDate));
+        }
+
+        shortages.sort(Comparator.comparing(MrpShortage::getDate, PLANNED_DAY_ORDER)
+                .thenComparing(MrpShortage::getItemId));
+        return new MrpReport(LocalDateTime.now(), openProductions, lines, shortages);
+    }
+
+    private static Map<Long, BigDecimal> sumByItem(List<Object[]> rows) {
+        Map<Long, BigDecimal> totals = new HashMap<>();
+        for (Object[] row : rows) {
+            totals.put(toLong(row[0]), toDecimal(row[1]));
+        }
+        return totals;
+    }
+
+    private static Long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
@@ -1,5 +1,8 @@
 package com.warehouse.api.production;
 
+import com.warehouse.api.production.dto.MrpReport;
+import com.warehouse.api.production.dto.ProductionListView;
+import com.warehouse.api.reservation.MaterialReservation;
 import com.warehouse.enums.ProductionStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,12 +21,24 @@ import java.util.Map;
 public class ProductionController {
 
     private final ProductionService productionService;
+    private final MrpService mrpService;
 
     @GetMapping
     public ResponseEntity<List<Production>> getAllProductions() {
         return ResponseEntity.ok(productionService.getAllProductions());
     }
 
+    @GetMapping("/list")
+    public ResponseEntity<List<ProductionListView>> getProductionListViews() {
+        return ResponseEntity.ok(productionService.getProductionListViews());
+    }
+
+    // Material shortages over all PLANNED and ON_HOLD productions
+    @GetMapping("/mrp")
+    public ResponseEntity<MrpReport> getMaterialRequirements() {
+        return ResponseEntity.ok(mrpService.getReport());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Production> getProductionById(@PathVariable Long id) {
         Production production = productionService.getProductionById(id)
@@ -95,6 +110,17 @@ public class ProductionController {
         return ResponseEntity.ok(production);
     }
 
+    @PostMapping("/{id}/reserve")
+    public ResponseEntity<List<MaterialReservation>> reserveMaterials(@PathVariable Long id) {
+        return ResponseEntity.ok(productionService.reserveMaterials(id));
+    }
+
+    @PostMapping("/{id}/release")
+    public ResponseEntity<?> releaseMaterials(@PathVariable Long id) {
+        productionService.releaseMaterials(id);
+        return ResponseEntity.ok(Map.of("message", "Materials released successfully"));
+    }
+
     @GetMapping("/{id}/items")
     public ResponseEntity<List<ProductionItem>> getProductionItems(@PathVariable Long id) {
         return ResponseEntity.ok(productionService.getProductionItems(id));
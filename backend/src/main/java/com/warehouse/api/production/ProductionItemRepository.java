@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,4 +21,11 @@ public interface ProductionItemRepository extends JpaRepository<ProductionItem,
     
     @Query("SELECT pi FROM ProductionItem pi WHERE pi.item.itemId = :itemId")
     List<ProductionItem> findByItemId(@Param("itemId") Long itemId);
+    
+    // Material requirement per item and planned day: [itemId, plannedDay, requiredQuantity]
+    @Query(value = "SELECT pi.item_id, DATE(p.planned_date), SUM(pi.required_quantity) FROM production_item pi " +
+            "JOIN production p ON p.production_id = pi.production_id " +
+            "WHERE p.status IN (:statuses) AND pi.item_id IS NOT NULL " +
+            "GROUP BY pi.item_id, DATE(p.planned_date)", nativeQuery = true)
+    List<Object[]> sumRequirementsByItemAndDay(@Param("statuses") Collection<String> statuses);
 }
\ No newline at end of file
@@ -1,15 +1,19 @@
 package com.warehouse.api.production;
 
 import com.warehouse.api.product.Product;
+import com.warehouse.api.production.dto.ProductionListView;
 import com.warehouse.api.user.User;
 import com.warehouse.api.warehouse.Warehouse;
 import com.warehouse.enums.ProductionStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,8 +22,16 @@ public interface ProductionRepository extends JpaRepository<Production, Long> {
     
     Optional<Production> findByProductionNumber(String productionNumber);
     
+    // Status transitions hold the header row, so a second start, hold or cancel of the same production waits
+    // and then sees the status the first one left
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Production p WHERE p.productionId = :productionId")
+    Optional<Production> findByIdForUpdate(@Param("productionId") Long productionId);
+    
     List<Production> findByStatus(ProductionStatus status);
     
+    long countByStatusIn(Collection<ProductionStatus> statuses);
+    
     List<Production> findByProduct(Product product);
     
     List<Production> findByWarehouse(Warehouse warehouse);
@@ -45,4 +57,10 @@ public interface ProductionRepository extends JpaRepository<Production, Long> {
     
     @Query("SELECT p FROM Production p ORDER BY p.plannedDate DESC")
     List<Production> findAllOrderByPlannedDateDesc();
+    
+    @Query("SELECT new com.warehouse.api.production.dto.ProductionListView(p.productionId, p.productionNumber, " +
+           "pr.productId, pr.name, w.warehouseId, w.name, u.userId, u.fullName, p.plannedQuantity, p.producedQuantity, " +
+           "p.status, p.startDate, p.endDate, p.plannedDate, p.totalCost, p.notes) FROM Production p " +
+           "LEFT JOIN p.product pr LEFT JOIN p.warehouse w LEFT JOIN p.user u ORDER BY p.plannedDate DESC")
+    List<ProductionListView> findAllListViews();
 }
\ No newline at end of file
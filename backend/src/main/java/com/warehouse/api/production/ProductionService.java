@@ -1,5 +1,7 @@
 package com.warehouse.api.production;
 
+import com.warehouse.api.production.dto.ProductionListView;
+import com.warehouse.api.reservation.MaterialReservation;
 import com.warehouse.enums.ProductionStatus;
 
 import java.time.LocalDateTime;
@@ -10,6 +12,8 @@ public interface ProductionService {
 
     List<Production> getAllProductions();
 
+    List<ProductionListView> getProductionListViews();
+
     Optional<Production> getProductionById(Long id);
 
     Optional<Production> getProductionByNumber(String productionNumber);
@@ -36,6 +40,10 @@ public interface ProductionService {
 
     Production cancelProduction(Long productionId);
 
+    List<MaterialReservation> reserveMaterials(Long productionId);
+
+    void releaseMaterials(Long productionId);
+
     List<ProductionItem> getProductionItems(Long productionId);
 
     ProductionItem addProductionItem(Long productionId, ProductionItem productionItem);
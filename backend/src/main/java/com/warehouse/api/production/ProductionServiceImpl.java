@@ -4,7 +4,12 @@ import com.warehouse.api.item.Item;
 import com.warehouse.api.item.ItemRepository;
 import com.warehouse.api.product.Product;
 import com.warehouse.api.product.ProductRepository;
+import com.warehouse.api.production.dto.ProductionListView;
+import com.warehouse.api.reservation.MaterialReservation;
+import com.warehouse.api.reservation.MaterialReservationService;
+import com.warehouse.api.stock.StockMutationService;
 import com.warehouse.api.transaction.Transaction;
+import com.warehouse.api.transaction.TransactionOutboxService;
 import com.warehouse.api.transaction.TransactionRepository;
 import com.warehouse.api.user.UserRepository;
 import com.warehouse.api.warehouse.WarehouseRepository;
@@ -12,12 +17,16 @@ import com.warehouse.enums.EntityType;
 import com.warehouse.enums.ProductionStatus;
 import com.warehouse.enums.TransactionStatus;
 import com.warehouse.enums.TransactionType;
+import com.warehouse.numbering.DocumentNumberService;
+import com.warehouse.numbering.DocumentType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,12 +42,22 @@ public class ProductionServiceImpl implements ProductionService {
     private final UserRepository userRepository;
     private final WarehouseRepository warehouseRepository;
     private final TransactionRepository transactionRepository;
+    private final StockMutationService stockMutationService;
+    private final TransactionOutboxService transactionOutboxService;
+    private final DocumentNumberService documentNumberService;
+    private final MaterialReservationService materialReservationService;
 
     @Override
     public List<Production> getAllProductions() {
         return productionRepository.findAllOrderByPlannedDateDesc();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductionListView> getProductionListViews() {
+        return productionRepository.findAllListViews();
+    }
+
     @Override
     public Optional<Production> getProductionById(Long id) {
         return productionRepository.findById(id);
@@ -55,14 +74,25 @@ public class ProductionServiceImpl implements ProductionService {
         if (production.getProductionNumber() == null || production.getProductionNumber().isEmpty()) {
             production.setProductionNumber(generateProductionNumber());
         }
-        
-        return productionRepository.save(production);
+
+        List<ProductionItem> productionItems = production.getProductionItems() != null
+                ? production.getProductionItems() : List.of();
+        for (ProductionItem productionItem : productionItems) {
+            productionItem.setProduction(production);
+            productionItem.setTotalCost(productionItem.getRequiredQuantity().multiply(productionItem.getUnitCost()));
+        }
+        Production savedProduction = productionRepository.save(production);
+        // Lines given up front hold their materials just like lines added later
+        if (holdsMaterials(savedProduction.getStatus()) && !productionItems.isEmpty()) {
+            materialReservationService.reserve(savedProduction, productionItems);
+        }
+        return savedProduction;
     }
 
     @Override
     public Production updateProduction(Long id, Production productionDetails) {
-        Production production = productionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Production not found"));
+        Production production = lockProduction(id);
+        ProductionStatus previousStatus = production.getStatus();
 
         production.setProduct(productionDetails.getProduct());
         production.setWarehouse(productionDetails.getWarehouse());
@@ -76,13 +106,22 @@ public class ProductionServiceImpl implements ProductionService {
         production.setNotes(productionDetails.getNotes());
         production.setTotalCost(productionDetails.getTotalCost());
 
-        return productionRepository.save(production);
+        Production savedProduction = productionRepository.save(production);
+        // A status edit takes or gives back materials like the dedicated transitions do
+        boolean held = holdsMaterials(previousStatus);
+        boolean holds = holdsMaterials(savedProduction.getStatus());
+        if (held && !holds) {
+            materialReservationService.release(id);
+        } else if (!held && holds) {
+            materialReservationService.reserve(savedProduction, productionItemRepository.findByProduction(savedProduction));
+        }
+        return savedProduction;
     }
 
     @Override
     public void deleteProduction(Long id) {
-        Production production = productionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Production not found"));
+        Production production = lockProduction(id);
+        materialReservationService.release(id);
         productionRepository.delete(production);
     }
 
@@ -113,28 +152,20 @@ public class ProductionServiceImpl implements ProductionService {
 
     @Override
     public Production startProduction(Long productionId) {
-        Production production = productionRepository.findById(productionId)
-                .orElseThrow(() -> new RuntimeException("Production not found"));
+        Production production = lockProduction(productionId);
 
         if (production.getStatus() != ProductionStatus.PLANNED) {
             throw new RuntimeException("Production can only be started from PLANNED status");
         }
 
-        // Check if all required items are available
-        List<ProductionItem> productionItems = productionItemRepository.findByProduction(production);
-        for (ProductionItem productionItem : productionItems) {
-            Item item = productionItem.getItem();
-            if (item.getQuantity().compareTo(productionItem.getRequiredQuantity()) < 0) {
-                throw new RuntimeException("Insufficient quantity for item: " + item.getName());
-            }
-        }
-
-        // Deduct items from inventory and create transactions
+        // Top the reservation up to the current lines, then turn it into consumption. Lines are posted in item id
+        // order so concurrent starts lock shared item rows in the same order; a shortage rolls the whole start back
+        List<ProductionItem> productionItems = new ArrayList<>(productionItemRepository.findByProduction(production));
+        materialReservationService.reserve(production, productionItems);
+        productionItems.sort(Comparator.comparing(productionItem -> productionItem.getItem().getItemId()));
         for (ProductionItem productionItem : productionItems) {
             Item item = productionItem.getItem();
-            BigDecimal newQuantity = item.getQuantity().subtract(productionItem.getRequiredQuantity());
-            item.setQuantity(newQuantity);
-            itemRepository.save(item);
+            stockMutationService.consumeReservedItem(item, production.getWarehouse(), productionItem.getRequiredQuantity());
 
             // Create outbound transaction for used items
             Transaction transaction = new Transaction();
@@ -151,12 +182,15 @@ public class ProductionServiceImpl implements ProductionService {
             transaction.setReferenceNumber("PROD-" + production.getProductionNumber());
             transaction.setNotes("Production consumption - " + production.getProductionNumber());
             transactionRepository.save(transaction);
+            transactionOutboxService.recorded(transaction);
 
             // Update used quantity
             productionItem.setUsedQuantity(productionItem.getRequiredQuantity());
             productionItemRepository.save(productionItem);
         }
 
+        materialReservationService.consumed(productionId);
+
         production.setStatus(ProductionStatus.IN_PROGRESS);
         production.setStartDate(LocalDateTime.now());
         return productionRepository.save(production);
@@ -164,8 +198,7 @@ public class ProductionServiceImpl implements ProductionService {
 
     @Override
     public Production completeProduction(Long productionId) {
-        Production production = productionRepository.findById(productionId)
-                .orElseThrow(() -> new RuntimeException("Production not found"));
+        Production production = lockProduction(productionId);
 
         if (production.getStatus() != ProductionStatus.IN_PROGRESS) {
             throw new RuntimeException("Production can only be completed from IN_PROGRESS status");
@@ -173,9 +206,7 @@ public class ProductionServiceImpl implements ProductionService {
 
         // Add produced quantity to product inventory
         Product product = production.getProduct();
-        BigDecimal newQuantity = product.getQuantity().add(production.getPlannedQuantity());
-        product.setQuantity(newQuantity);
-        productRepository.save(product);
+        stockMutationService.increaseProduct(product, production.getWarehouse(), production.getPlannedQuantity());
 
         // Create inbound transaction for produced product
         Transaction transaction = new Transaction();
@@ -192,6 +223,7 @@ public class ProductionServiceImpl implements ProductionService {
         transaction.setReferenceNumber("PROD-" + production.getProductionNumber());
         transaction.setNotes("Production output - " + production.getProductionNumber());
         transactionRepository.save(transaction);
+        transactionOutboxService.recorded(transaction);
 
         production.setStatus(ProductionStatus.COMPLETED);
         production.setEndDate(LocalDateTime.now());
@@ -201,22 +233,23 @@ public class ProductionServiceImpl implements ProductionService {
 
     @Override
     public Production cancelProduction(Long productionId) {
-        Production production = productionRepository.findById(productionId)
-                .orElseThrow(() -> new RuntimeException("Production not found"));
+        Production production = lockProduction(productionId);
 
         if (production.getStatus() == ProductionStatus.COMPLETED) {
             throw new RuntimeException("Cannot cancel completed production");
         }
 
+        if (holdsMaterials(production.getStatus())) {
+            materialReservationService.release(productionId);
+        }
+
         // If production was in progress, return used items to inventory
         if (production.getStatus() == ProductionStatus.IN_PROGRESS) {
             List<ProductionItem> productionItems = productionItemRepository.findByProduction(production);
             for (ProductionItem productionItem : productionItems) {
                 if (productionItem.getUsedQuantity().compareTo(BigDecimal.ZERO) > 0) {
                     Item item = productionItem.getItem();
-                    BigDecimal newQuantity = item.getQuantity().add(productionItem.getUsedQuantity());
-                    item.setQuantity(newQuantity);
-                    itemRepository.save(item);
+                    stockMutationService.increaseItem(item, production.getWarehouse(), productionItem.getUsedQuantity());
 
                     // Create adjustment transaction
                     Transaction transaction = new Transaction();
@@ -233,6 +266,7 @@ public class ProductionServiceImpl implements ProductionService {
                     transaction.setReferenceNumber("PROD-CANCEL-" + production.getProductionNumber());
                     transaction.setNotes("Production cancellation return - " + production.getProductionNumber());
                     transactionRepository.save(transaction);
+                    transactionOutboxService.recorded(transaction);
                 }
             }
         }
@@ -242,6 +276,26 @@ public class ProductionServiceImpl implements ProductionService {
         return productionRepository.save(production);
     }
 
+    @Override
+    public List<MaterialReservation> reserveMaterials(Long productionId) {
+        Production production = lockProduction(productionId);
+
+        if (!holdsMaterials(production.getStatus())) {
+            throw new RuntimeException("Materials can only be reserved for PLANNED or ON_HOLD productions");
+        }
+        return materialReservationService.reserve(production, productionItemRepository.findByProduction(production));
+    }
+
+    @Override
+    public void releaseMaterials(Long productionId) {
+        Production production = lockProduction(productionId);
+
+        if (!holdsMaterials(production.getStatus())) {
+            throw new RuntimeException("Materials can only be released for PLANNED or ON_HOLD productions");
+        }
+        materialReservationService.release(productionId);
+    }
+
     @Override
     public List<ProductionItem> getProductionItems(Long productionId) {
         Production production = productionRepository.findById(productionId)
@@ -251,8 +305,7 @@ public class ProductionServiceImpl implements ProductionService {
 
     @Override
     public ProductionItem addProductionItem(Long productionId, ProductionItem productionItem) {
-        Production production = productionRepository.findById(productionId)
-                .orElseThrow(() -> new RuntimeException("Production not found"));
+        Production production = lockProduction(productionId);
 
         productionItem.setProduction(production);
         
@@ -260,13 +313,16 @@ public class ProductionServiceImpl implements ProductionService {
         BigDecimal totalCost = productionItem.getRequiredQuantity().multiply(productionItem.getUnitCost());
         productionItem.setTotalCost(totalCost);
 
-        return productionItemRepository.save(productionItem);
+        ProductionItem savedItem = productionItemRepository.save(productionItem);
+        syncReservation(production);
+        return savedItem;
     }
 
     @Override
     public ProductionItem updateProductionItem(Long productionItemId, ProductionItem productionItemDetails) {
         ProductionItem productionItem = productionItemRepository.findById(productionItemId)
                 .orElseThrow(() -> new RuntimeException("Production item not found"));
+        Production production = lockProduction(productionItem.getProduction().getProductionId());
 
         productionItem.setItem(productionItemDetails.getItem());
         productionItem.setRequiredQuantity(productionItemDetails.getRequiredQuantity());
@@ -277,17 +333,39 @@ public class ProductionServiceImpl implements ProductionService {
         BigDecimal totalCost = productionItem.getRequiredQuantity().multiply(productionItem.getUnitCost());
         productionItem.setTotalCost(totalCost);
 
-        return productionItemRepository.save(productionItem);
+        ProductionItem savedItem = productionItemRepository.save(productionItem);
+        syncReservation(production);
+        return savedItem;
     }
 
     @Override
     public void removeProductionItem(Long productionItemId) {
         ProductionItem productionItem = productionItemRepository.findById(productionItemId)
                 .orElseThrow(() -> new RuntimeException("Production item not found"));
+        Production production = lockProduction(productionItem.getProduction().getProductionId());
         productionItemRepository.delete(productionItem);
+        syncReservation(production);
+    }
+
+    // Everything that changes the status or the reservation of a production goes through the locked header
+    private Production lockProduction(Long productionId) {
+        return productionRepository.findByIdForUpdate(productionId)
+                .orElseThrow(() -> new RuntimeException("Production not found"));
+    }
+
+    // Line edits on a production that holds materials move its reservation along
+    private void syncReservation(Production production) {
+        if (holdsMaterials(production.getStatus())) {
+            materialReservationService.reserve(production, productionItemRepository.findByProduction(production));
+        }
+    }
+
+    // Materials are held from planning until the production starts, is cancelled or is deleted
+    private static boolean holdsMaterials(ProductionStatus status) {
+        return status == ProductionStatus.PLANNED || status == ProductionStatus.ON_HOLD;
     }
 
     private String generateProductionNumber() {
-        return "PROD-" + System.currentTimeMillis();
+        return documentNumberService.next(DocumentType.PRODUCTION);
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.warehouse.api.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Requirement of one item over all open productions, netted against stock and open supply
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpItemLine {
+    private Long itemId;
+    private String itemCode;
+    private String itemName;
+    private BigDecimal onHand;
+    private BigDecimal openOrderQuantity;
+    private BigDecimal openReceiptQuantity;
+    private BigDecimal required;
+    private BigDecimal netAvailable;
+    private LocalDate firstShortageDate;
+}
@@ -0,0 +1,18 @@
+package com.warehouse.api.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpReport {
+    private LocalDateTime generatedAt;
+    private long openProductions;
+    private List<MrpItemLine> items;
+    private List<MrpShortage> shortages;
+}
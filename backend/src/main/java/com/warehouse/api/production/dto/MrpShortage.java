@@ -0,0 +1,23 @@
+package com.warehouse.api.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// A planned day on which an item's cumulative requirement exceeds its stock plus open supply
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpShortage {
+    private LocalDate date;
+    private Long itemId;
+    private String itemCode;
+    private String itemName;
+    private BigDecimal required;
+    private BigDecimal cumulativeRequired;
+    private BigDecimal projectedBalance;
+    private BigDecimal shortage;
+}
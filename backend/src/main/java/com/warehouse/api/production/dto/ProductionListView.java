@@ -0,0 +1,33 @@
+package com.warehouse.api.production.dto;
+
+import com.warehouse.enums.ProductionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Flat row for production lists; built directly by a JPQL constructor expression
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductionListView {
+
+    private Long productionId;
+    private String productionNumber;
+    private Long productId;
+    private String productName;
+    private Long warehouseId;
+    private String warehouseName;
+    private Long userId;
+    private String userFullName;
+    private BigDecimal plannedQuantity;
+    private BigDecimal producedQuantity;
+    private ProductionStatus status;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private LocalDateTime plannedDate;
+    private BigDecimal totalCost;
+    private String notes;
+}
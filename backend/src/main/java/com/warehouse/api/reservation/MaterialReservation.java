@@ -0,0 +1,31 @@
+package com.warehouse.api.reservation;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Stock of one item held back for one planned production
+@Data
+@Entity
+@Table(name = "material_reservation")
+public class MaterialReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @Column(name = "production_id", nullable = false)
+    private Long productionId;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(precision = 10, scale = 3, nullable = false)
+    private BigDecimal quantity = BigDecimal.ZERO;
+
+    @Column(name = "reserved_at", nullable = false)
+    private LocalDateTime reservedAt;
+}
@@ -0,0 +1,32 @@
+package com.warehouse.api.reservation;
+
+import com.warehouse.api.reservation.dto.AvailableToPromise;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/reservations")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequiredArgsConstructor
+public class MaterialReservationController {
+
+    private final MaterialReservationService reservationService;
+
+    @GetMapping("/production/{productionId}")
+    public ResponseEntity<List<MaterialReservation>> getProductionReservations(@PathVariable Long productionId) {
+        return ResponseEntity.ok(reservationService.getProductionReservations(productionId));
+    }
+
+    @GetMapping("/item/{itemId}")
+    public ResponseEntity<List<MaterialReservation>> getItemReservations(@PathVariable Long itemId) {
+        return ResponseEntity.ok(reservationService.getItemReservations(itemId));
+    }
+
+    @GetMapping("/item/{itemId}/available")
+    public ResponseEntity<AvailableToPromise> getAvailableToPromise(@PathVariable Long itemId) {
+        return ResponseEntity.ok(reservationService.getAvailableToPromise(itemId));
+    }
+}
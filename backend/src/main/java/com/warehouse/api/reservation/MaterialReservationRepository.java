@@ -0,0 +1,21 @@
+package com.warehouse.api.reservation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MaterialReservationRepository extends JpaRepository<MaterialReservation, Long> {
+
+    List<MaterialReservation> findByProductionIdOrderByItemId(Long productionId);
+
+    List<MaterialReservation> findByItemIdOrderByReservedAt(Long itemId);
+
+    @Modifying
+    @Query("DELETE FROM MaterialReservation r WHERE r.productionId = :productionId")
+    void deleteByProductionId(@Param("productionId") Long productionId);
+}
@@ -0,0 +1,118 @@
+package com.warehouse.api.reservation;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.item.ItemRepository;
+import com.warehouse.api.production.Production;
+import com.warehouse.api.production.ProductionItem;
+import com.warehouse.api.reservation.dto.AvailableToPromise;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Holds item stock back for planned productions. The running total per item is kept in
+ * {@code item.reserved_quantity}, so available-to-promise is {@code quantity - reserved_quantity} and a
+ * reservation is a single guarded update on the item row. Rows are always touched in item id order, which
+ * keeps productions sharing materials from deadlocking each other.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class MaterialReservationService {
+
+    private final MaterialReservationRepository reservationRepository;
+    private final ItemRepository itemRepository;
+
+    /**
+     * Brings the production's reservations in line with its lines: missing quantity is reserved, surplus
+     * is released. All or nothing; a shortage on any item fails the call and the transaction rolls back.
+     */
+    public List<MaterialReservation> reserve(Production production, List<ProductionItem> lines) {
+        Long productionId = production.getProductionId();
+        Map<Long, BigDecimal> required = new TreeMap<>();
+        Map<Long, Item> items = new HashMap<>();
+        for (ProductionItem line : lines) {
+            if (line.getItem() == null || line.getRequiredQuantity() == null) {
+                continue;
+            }
+            required.merge(line.getItem().getItemId(), line.getRequiredQuantity(), BigDecimal::add);
+            items.put(line.getItem().getItemId(), line.getItem());
+        }
+        Map<Long, MaterialReservation> existing = new HashMap<>();
+        for (MaterialReservation reservation : reservationRepository.findByProductionIdOrderByItemId(productionId)) {
+            existing.put(reservation.getItemId(), reservation);
+        }
+
+        Set<Long> itemIds = new TreeSet<>(required.keySet());
+        itemIds.addAll(existing.keySet());
+        for (Long itemId : itemIds) {
+            BigDecimal target = required.getOrDefault(itemId, BigDecimal.ZERO);
+            MaterialReservation reservation = existing.get(itemId);
+            BigDecimal held = reservation != null ? reservation.getQuantity() : BigDecimal.ZERO;
+            BigDecimal delta = target.subtract(held);
+
+            if (delta.signum() > 0 && itemRepository.reserveQuantity(itemId, delta) == 0) {
+                throw new RuntimeException("Insufficient available quantity for item: " + items.get(itemId).getName());
+            }
+            if (delta.signum() < 0) {
+                itemRepository.releaseReservedQuantity(itemId, delta.negate());
+            }
+
+            if (target.signum() == 0) {
+                reservationRepository.delete(reservation);
+            } else if (delta.signum() != 0) {
+                if (reservation == null) {
+                    reservation = new MaterialReservation();
+                    reservation.setProductionId(productionId);
+                    reservation.setItemId(itemId);
+                }
+                reservation.setQuantity(target);
+                reservation.setReservedAt(LocalDateTime.now());
+                reservationRepository.save(reservation);
+            }
+        }
+        return reservationRepository.findByProductionIdOrderByItemId(productionId);
+    }
+
+    // Gives everything held for the production back to available stock
+    public void release(Long productionId) {
+        for (MaterialReservation reservation : reservationRepository.findByProductionIdOrderByItemId(productionId)) {
+            itemRepository.releaseReservedQuantity(reservation.getItemId(), reservation.getQuantity());
+        }
+        reservationRepository.deleteByProductionId(productionId);
+    }
+
+    // Drops the reservation records once the stock they held has been consumed
+    public void consumed(Long productionId) {
+        reservationRepository.deleteByProductionId(productionId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MaterialReservation> getProductionReservations(Long productionId) {
+        return reservationRepository.findByProductionIdOrderByItemId(productionId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MaterialReservation> getItemReservations(Long itemId) {
+        return reservationRepository.findByItemIdOrderByReservedAt(itemId);
+    }
+
+    @Transactional(readOnly = true)
+    public AvailableToPromise getAvailableToPromise(Long itemId) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new RuntimeException("Item not found"));
+        BigDecimal onHand = item.getQuantity() != null ? item.getQuantity() : BigDecimal.ZERO;
+        BigDecimal reserved = item.getReservedQuantity() != null ? item.getReservedQuantity() : BigDecimal.ZERO;
+        return new AvailableToPromise(item.getItemId(), item.getCode(), item.getName(),
+                onHand, reserved, onHand.subtract(reserved));
+    }
+}
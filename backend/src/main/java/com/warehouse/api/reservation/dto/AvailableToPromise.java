@@ -0,0 +1,19 @@
+package com.warehouse.api.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableToPromise {
+    private Long itemId;
+    private String itemCode;
+    private String itemName;
+    private BigDecimal onHand;
+    private BigDecimal reserved;
+    private BigDecimal available;
+}
@@ -0,0 +1,35 @@
+package com.warehouse.api.search;
+
+import com.warehouse.api.search.dto.SearchHit;
+import com.warehouse.api.search.dto.SearchPage;
+import com.warehouse.enums.SearchEntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/search")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    @GetMapping
+    public ResponseEntity<SearchPage> search(@RequestParam String q,
+                                             @RequestParam(required = false) Set<SearchEntityType> types,
+                                             @RequestParam(defaultValue = "0") int page,
+                                             @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchIndexService.search(q, types, page, size));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SearchHit>> autocomplete(@RequestParam String prefix,
+                                                        @RequestParam(required = false) Set<SearchEntityType> types,
+                                                        @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchIndexService.autocomplete(prefix, types, limit));
+    }
+}
@@ -0,0 +1,35 @@
+package com.warehouse.api.search;
+
+import com.warehouse.enums.SearchEntityType;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One indexed entity: display strings as stored, searchable fields normalized to lower case.
+ */
+record SearchDocument(Key key, String title, String subtitle, Map<SearchField, String> fields) {
+
+    record Key(SearchEntityType type, Long id) {
+    }
+
+    static SearchDocument of(SearchEntityType type, Long id, String title, String subtitle,
+                             Map<SearchField, String> rawFields) {
+        Map<SearchField, String> fields = new EnumMap<>(SearchField.class);
+        rawFields.forEach((field, value) -> {
+            String normalized = normalize(value);
+            if (!normalized.isEmpty()) {
+                fields.put(field, normalized);
+            }
+        });
+        return new SearchDocument(new Key(type, id), title, subtitle, fields);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
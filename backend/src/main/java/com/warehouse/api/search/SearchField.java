@@ -0,0 +1,10 @@
+package com.warehouse.api.search;
+
+public enum SearchField {
+    NAME,
+    CODE,
+    PHONE,
+    EMAIL,
+    NUMBER,
+    SUPPLIER
+}
@@ -0,0 +1,210 @@
+package com.warehouse.api.search;
+
+import com.warehouse.api.client.Client;
+import com.warehouse.api.client.ClientRepository;
+import com.warehouse.api.item.Item;
+import com.warehouse.api.item.ItemRepository;
+import com.warehouse.api.item.dto.ItemListView;
+import com.warehouse.api.materialreceipt.MaterialReceipt;
+import com.warehouse.api.materialreceipt.MaterialReceiptRepository;
+import com.warehouse.api.order.Order;
+import com.warehouse.api.order.OrderRepository;
+import com.warehouse.api.product.Product;
+import com.warehouse.api.product.ProductRepository;
+import com.warehouse.api.product.dto.ProductListView;
+import com.warehouse.api.search.dto.SearchHit;
+import com.warehouse.api.search.dto.SearchPage;
+import com.warehouse.enums.SearchEntityType;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the trigram index in step with items, products, clients, orders and material receipts.
+ * Services report saves and deletes here; the index is only touched after their transaction commits.
+ * <p>
+ * A build fills a fresh index off to the side and swaps it in at the end. Updates that arrive meanwhile go
+ * to the live index and are also queued, then replayed on the fresh one right before the swap, so a row
+ * deleted during the build cannot come back from the build's snapshot.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexService.class);
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ItemRepository itemRepository;
+    private final ProductRepository productRepository;
+    private final ClientRepository clientRepository;
+    private final OrderRepository orderRepository;
+    private final MaterialReceiptRepository materialReceiptRepository;
+
+    private final Object swapLock = new Object();
+    private volatile TrigramIndex index = new TrigramIndex();
+    // Non-null while a build runs; guarded by swapLock
+    private List<Consumer<TrigramIndex>> pending;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        synchronized (swapLock) {
+            pending = new ArrayList<>();
+        }
+        TrigramIndex fresh = new TrigramIndex();
+        for (ItemListView item : itemRepository.findAllListViews()) {
+            fresh.put(itemDocument(item.getItemId(), item.getName(), item.getCode()));
+        }
+        for (ProductListView product : productRepository.findAllListViews()) {
+            fresh.put(productDocument(product.getProductId(), product.getName(), product.getCode()));
+        }
+        clientRepository.findAll().forEach(client -> fresh.put(clientDocument(client)));
+        orderRepository.findAll().forEach(order -> fresh.put(orderDocument(order)));
+        materialReceiptRepository.findAll().forEach(receipt -> fresh.put(materialReceiptDocument(receipt)));
+
+        synchronized (swapLock) {
+            pending.forEach(update -> update.accept(fresh));
+            pending = null;
+            index = fresh;
+        }
+        ready = true;
+        logger.info("Search index built with {} documents", fresh.size());
+    }
+
+    // Until the startup build finishes, callers should fall back to their database query
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void itemSaved(Item item) {
+        SearchDocument document = itemDocument(item.getItemId(), item.getName(), item.getCode());
+        afterCommit(target -> target.put(document));
+    }
+
+    public void productSaved(Product product) {
+        SearchDocument document = productDocument(product.getProductId(), product.getName(), product.getCode());
+        afterCommit(target -> target.put(document));
+    }
+
+    public void clientSaved(Client client) {
+        SearchDocument document = clientDocument(client);
+        afterCommit(target -> target.put(document));
+    }
+
+    public void orderSaved(Order order) {
+        SearchDocument document = orderDocument(order);
+        afterCommit(target -> target.put(document));
+    }
+
+    public void materialReceiptSaved(MaterialReceipt materialReceipt) {
+        SearchDocument document = materialReceiptDocument(materialReceipt);
+        afterCommit(target -> target.put(document));
+    }
+
+    public void removed(SearchEntityType type, Long id) {
+        SearchDocument.Key key = new SearchDocument.Key(type, id);
+        afterCommit(target -> target.remove(key));
+    }
+
+    public List<Long> findContaining(SearchEntityType type, SearchField field, String query) {
+        return index.findContaining(type, field, query);
+    }
+
+    public SearchPage search(String query, Set<SearchEntityType> types, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        List<TrigramIndex.ScoredDocument> results = index.search(query, typesOrAll(types));
+
+        int from = (int) Math.min((long) pageNumber * pageSize, results.size());
+        int to = Math.min(from + pageSize, results.size());
+        List<SearchHit> content = results.subList(from, to).stream()
+                .map(scored -> toHit(scored.document(), scored.score()))
+                .toList();
+        return new SearchPage(content, pageNumber, pageSize, results.size());
+    }
+
+    public List<SearchHit> autocomplete(String prefix, Set<SearchEntityType> types, int limit) {
+        return index.autocomplete(prefix, typesOrAll(types), Math.max(1, Math.min(limit, MAX_PAGE_SIZE))).stream()
+                .map(document -> toHit(document, 0))
+                .toList();
+    }
+
+    private SearchDocument itemDocument(Long id, String name, String code) {
+        return SearchDocument.of(SearchEntityType.ITEM, id, name, code,
+                fields(SearchField.NAME, name, SearchField.CODE, code));
+    }
+
+    private SearchDocument productDocument(Long id, String name, String code) {
+        return SearchDocument.of(SearchEntityType.PRODUCT, id, name, code,
+                fields(SearchField.NAME, name, SearchField.CODE, code));
+    }
+
+    private SearchDocument clientDocument(Client client) {
+        Map<SearchField, String> fields = fields(SearchField.NAME, client.getName(), SearchField.PHONE, client.getPhone());
+        fields.put(SearchField.EMAIL, client.getEmail());
+        return SearchDocument.of(SearchEntityType.CLIENT, client.getClientId(), client.getName(), client.getPhone(), fields);
+    }
+
+    private SearchDocument orderDocument(Order order) {
+        return SearchDocument.of(SearchEntityType.ORDER, order.getOrderId(), order.getOrderNumber(), order.getSupplier(),
+                fields(SearchField.NUMBER, order.getOrderNumber(), SearchField.SUPPLIER, order.getSupplier()));
+    }
+
+    private SearchDocument materialReceiptDocument(MaterialReceipt receipt) {
+        return SearchDocument.of(SearchEntityType.MATERIAL_RECEIPT, receipt.getReceiptId(), receipt.getReceiptNumber(),
+                receipt.getSupplier(),
+                fields(SearchField.NUMBER, receipt.getReceiptNumber(), SearchField.SUPPLIER, receipt.getSupplier()));
+    }
+
+    private Map<SearchField, String> fields(SearchField first, String firstValue, SearchField second, String secondValue) {
+        Map<SearchField, String> fields = new HashMap<>();
+        fields.put(first, firstValue);
+        fields.put(second, secondValue);
+        return fields;
+    }
+
+    private SearchHit toHit(SearchDocument document, double score) {
+        return new SearchHit(document.key().type(), document.key().id(), document.title(), document.subtitle(), score);
+    }
+
+    private Set<SearchEntityType> typesOrAll(Set<SearchEntityType> types) {
+        return types == null || types.isEmpty() ? EnumSet.allOf(SearchEntityType.class) : types;
+    }
+
+    private void afterCommit(Consumer<TrigramIndex> update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(update);
+                }
+            });
+        } else {
+            apply(update);
+        }
+    }
+
+    private void apply(Consumer<TrigramIndex> update) {
+        synchronized (swapLock) {
+            update.accept(index);
+            if (pending != null) {
+                pending.add(update);
+            }
+        }
+    }
+}
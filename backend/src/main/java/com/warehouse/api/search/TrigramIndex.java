@@ -0,0 +1,223 @@
+package com.warehouse.api.search;
+
+import com.warehouse.enums.SearchEntityType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory inverted index over character trigrams, plus a sorted term map for prefix lookups.
+ * <p>
+ * Any string that contains the query also contains every trigram of the query. A substring search therefore
+ * only has to verify the documents in the query's rarest posting list, and ranked search scores candidates
+ * by how many query trigrams they share. Writes are serialized; reads run lock-free against concurrent maps.
+ */
+class TrigramIndex {
+
+    private static final int GRAM = 3;
+    // Share of query trigrams a document needs to be returned by ranked (typo-tolerant) search
+    private static final double MIN_SIMILARITY = 0.6;
+
+    private final Map<SearchDocument.Key, SearchDocument> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<SearchDocument.Key>> postings = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Set<SearchDocument.Key>> terms = new ConcurrentSkipListMap<>();
+
+    synchronized void put(SearchDocument document) {
+        remove(document.key());
+        documents.put(document.key(), document);
+        for (String gram : gramsOf(document)) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(document.key());
+        }
+        for (String term : termsOf(document)) {
+            terms.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(document.key());
+        }
+    }
+
+    synchronized void remove(SearchDocument.Key key) {
+        SearchDocument existing = documents.remove(key);
+        if (existing == null) {
+            return;
+        }
+        for (String gram : gramsOf(existing)) {
+            detach(postings, gram, key);
+        }
+        for (String term : termsOf(existing)) {
+            detach(terms, term, key);
+        }
+    }
+
+    // Same result as SQL LIKE %query% on one field, answered from the index
+    List<Long> findContaining(SearchEntityType type, SearchField field, String query) {
+        String normalized = SearchDocument.normalize(query);
+        List<Long> ids = new ArrayList<>();
+        for (SearchDocument document : candidates(normalized)) {
+            String value = document.fields().get(field);
+            if (document.key().type() == type && value != null && value.contains(normalized)) {
+                ids.add(document.key().id());
+            }
+        }
+        return ids;
+    }
+
+    List<ScoredDocument> search(String query, Set<SearchEntityType> types) {
+        String normalized = SearchDocument.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        List<ScoredDocument> results = new ArrayList<>();
+        if (normalized.length() < GRAM) {
+            for (SearchDocument document : prefixMatches(normalized, types, Integer.MAX_VALUE)) {
+                results.add(new ScoredDocument(document, fieldBonus(document, normalized)));
+            }
+        } else {
+            Set<String> queryGrams = gramsOf(normalized);
+            Map<SearchDocument.Key, Integer> matches = new HashMap<>();
+            for (String gram : queryGrams) {
+                Set<SearchDocument.Key> posting = postings.get(gram);
+                if (posting != null) {
+                    for (SearchDocument.Key key : posting) {
+                        if (types.contains(key.type())) {
+                            matches.merge(key, 1, Integer::sum);
+                        }
+                    }
+                }
+            }
+            int required = (int) Math.ceil(queryGrams.size() * MIN_SIMILARITY);
+            matches.forEach((key, count) -> {
+                SearchDocument document = documents.get(key);
+                if (document != null && count >= required) {
+                    double similarity = (double) count / queryGrams.size();
+                    results.add(new ScoredDocument(document, similarity + fieldBonus(document, normalized)));
+                }
+            });
+        }
+
+        results.sort(Comparator.comparingDouble(ScoredDocument::score).reversed()
+                .thenComparing(scored -> scored.document().title(), Comparator.nullsLast(String::compareTo)));
+        return results;
+    }
+
+    List<SearchDocument> autocomplete(String prefix, Set<SearchEntityType> types, int limit) {
+        String normalized = SearchDocument.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return prefixMatches(normalized, types, limit);
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    private Iterable<SearchDocument> candidates(String normalized) {
+        if (normalized.length() < GRAM) {
+            return documents.values();
+        }
+        // Only documents holding the rarest query trigram can contain the whole query
+        Set<SearchDocument.Key> rarest = null;
+        for (String gram : gramsOf(normalized)) {
+            Set<SearchDocument.Key> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            if (rarest == null || posting.size() < rarest.size()) {
+                rarest = posting;
+            }
+        }
+        List<SearchDocument> result = new ArrayList<>();
+        for (SearchDocument.Key key : rarest) {
+            SearchDocument document = documents.get(key);
+            if (document != null) {
+                result.add(document);
+            }
+        }
+        return result;
+    }
+
+    // Walks the sorted terms from the prefix onwards and stops as soon as enough documents are found
+    private List<SearchDocument> prefixMatches(String prefix, Set<SearchEntityType> types, int limit) {
+        Set<SearchDocument.Key> seen = new HashSet<>();
+        List<SearchDocument> result = new ArrayList<>();
+        for (Set<SearchDocument.Key> termKeys : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            for (SearchDocument.Key key : termKeys) {
+                if (!types.contains(key.type()) || !seen.add(key)) {
+                    continue;
+                }
+                SearchDocument document = documents.get(key);
+                if (document != null) {
+                    result.add(document);
+                    if (result.size() >= limit) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // Exact and prefix hits rank above matches in the middle of a field
+    private double fieldBonus(SearchDocument document, String query) {
+        double bonus = 0;
+        for (String value : document.fields().values()) {
+            if (value.equals(query)) {
+                bonus = Math.max(bonus, 3);
+            } else if (value.startsWith(query)) {
+                bonus = Math.max(bonus, 2);
+            } else if (value.contains(" " + query)) {
+                bonus = Math.max(bonus, 1.5);
+            } else if (value.contains(query)) {
+                bonus = Math.max(bonus, 1);
+            }
+        }
+        return bonus;
+    }
+
+    private Set<String> gramsOf(SearchDocument document) {
+        Set<String> grams = new HashSet<>();
+        for (String value : document.fields().values()) {
+            grams.addAll(gramsOf(value));
+        }
+        return grams;
+    }
+
+    private Set<String> gramsOf(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    // Whole field values and their individual words, for prefix autocomplete
+    private Set<String> termsOf(SearchDocument document) {
+        Set<String> result = new HashSet<>();
+        for (String value : document.fields().values()) {
+            result.add(value);
+            for (String word : value.split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) {
+                    result.add(word);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void detach(Map<String, Set<SearchDocument.Key>> map, String token, SearchDocument.Key key) {
+        map.computeIfPresent(token, (t, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    record ScoredDocument(SearchDocument document, double score) {
+    }
+}
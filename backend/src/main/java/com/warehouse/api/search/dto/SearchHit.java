@@ -0,0 +1,18 @@
+package com.warehouse.api.search.dto;
+
+import com.warehouse.enums.SearchEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHit {
+
+    private SearchEntityType type;
+    private Long id;
+    private String title;
+    private String subtitle;
+    private double score;
+}
@@ -0,0 +1,18 @@
+package com.warehouse.api.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPage {
+
+    private List<SearchHit> content;
+    private int page;
+    private int size;
+    private long totalHits;
+}
@@ -0,0 +1,12 @@
+package com.warehouse.api.stock;
+
+import com.warehouse.api.item.Item;
+
+import java.math.BigDecimal;
+
+public record ItemQuantity(Item item, BigDecimal quantity) {
+
+    public ItemQuantity plus(BigDecimal more) {
+        return new ItemQuantity(item, quantity.add(more));
+    }
+}
@@ -0,0 +1,30 @@
+package com.warehouse.api.stock;
+
+import com.warehouse.enums.EntityType;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Entity
+@IdClass(StockBalanceId.class)
+@Table(name = "stock_balance")
+public class StockBalance {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type")
+    private EntityType entityType;
+
+    @Id
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Id
+    @Column(name = "warehouse_id")
+    private Long warehouseId;
+
+    @Column(precision = 19, scale = 3, nullable = false)
+    private BigDecimal quantity = BigDecimal.ZERO;
+}
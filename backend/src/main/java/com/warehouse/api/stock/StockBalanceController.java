@@ -0,0 +1,37 @@
+package com.warehouse.api.stock;
+
+import com.warehouse.enums.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/stock-balances")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequiredArgsConstructor
+public class StockBalanceController {
+
+    private final StockBalanceService stockBalanceService;
+
+    @GetMapping("/{entityType}/{entityId}")
+    public ResponseEntity<List<StockBalance>> getBalances(@PathVariable EntityType entityType,
+                                                          @PathVariable Long entityId) {
+        return ResponseEntity.ok(stockBalanceService.getBalances(entityType, entityId));
+    }
+
+    @GetMapping("/{entityType}/{entityId}/warehouse/{warehouseId}")
+    public ResponseEntity<StockBalance> getBalance(@PathVariable EntityType entityType,
+                                                   @PathVariable Long entityId,
+                                                   @PathVariable Long warehouseId) {
+        StockBalance balance = stockBalanceService.getBalance(entityType, entityId, warehouseId)
+                .orElseThrow(() -> new RuntimeException("Stock balance not found"));
+        return ResponseEntity.ok(balance);
+    }
+
+    @GetMapping("/warehouse/{warehouseId}")
+    public ResponseEntity<List<StockBalance>> getWarehouseBalances(@PathVariable Long warehouseId) {
+        return ResponseEntity.ok(stockBalanceService.getWarehouseBalances(warehouseId));
+    }
+}
@@ -0,0 +1,18 @@
+package com.warehouse.api.stock;
+
+import com.warehouse.enums.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBalanceId implements Serializable {
+
+    private EntityType entityType;
+    private Long entityId;
+    private Long warehouseId;
+}
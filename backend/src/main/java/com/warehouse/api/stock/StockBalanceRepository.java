@@ -0,0 +1,52 @@
+package com.warehouse.api.stock;
+
+import com.warehouse.enums.EntityType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StockBalanceRepository extends JpaRepository<StockBalance, StockBalanceId> {
+
+    List<StockBalance> findByEntityTypeAndEntityIdOrderByWarehouseId(EntityType entityType, Long entityId);
+
+    List<StockBalance> findByWarehouseIdOrderByEntityTypeAscEntityIdAsc(Long warehouseId);
+
+    // Row locks are always taken in warehouse id order, so two transfers over the same pair cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM StockBalance b WHERE b.entityType = :entityType AND b.entityId = :entityId " +
+           "AND b.warehouseId IN :warehouseIds ORDER BY b.warehouseId")
+    List<StockBalance> lockBalances(@Param("entityType") EntityType entityType,
+                                    @Param("entityId") Long entityId,
+                                    @Param("warehouseIds") Collection<Long> warehouseIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO stock_balance (entity_type, entity_id, warehouse_id, quantity) " +
+            "VALUES (:entityType, :entityId, :warehouseId, :delta) " +
+            "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)", nativeQuery = true)
+    void applyDelta(@Param("entityType") String entityType,
+                    @Param("entityId") Long entityId,
+                    @Param("warehouseId") Long warehouseId,
+                    @Param("delta") BigDecimal delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE stock_balance SET quantity = quantity + :delta " +
+            "WHERE entity_type = :entityType AND entity_id = :entityId AND warehouse_id = :warehouseId " +
+            "AND quantity + :delta >= 0", nativeQuery = true)
+    int applyGuardedDelta(@Param("entityType") String entityType,
+                          @Param("entityId") Long entityId,
+                          @Param("warehouseId") Long warehouseId,
+                          @Param("delta") BigDecimal delta);
+
+    @Modifying
+    @Query("DELETE FROM StockBalance b WHERE b.entityType = :entityType AND b.entityId = :entityId")
+    void deleteByEntity(@Param("entityType") EntityType entityType, @Param("entityId") Long entityId);
+}
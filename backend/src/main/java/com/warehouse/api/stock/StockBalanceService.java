@@ -0,0 +1,109 @@
+package com.warehouse.api.stock;
+
+import com.warehouse.api.live.LiveFeedBroadcaster;
+import com.warehouse.enums.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Per-warehouse split of item and product stock. The quantity on the item or product stays the total
+ * over all warehouses and the balance rows always add up to it; a row is created on first stock in.
+ * Every change is reported to the live feed, which announces it once the transaction commits.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StockBalanceService {
+
+    private final StockBalanceRepository stockBalanceRepository;
+    private final LiveFeedBroadcaster liveFeedBroadcaster;
+
+    @Transactional(readOnly = true)
+    public Optional<StockBalance> getBalance(EntityType entityType, Long entityId, Long warehouseId) {
+        return stockBalanceRepository.findById(new StockBalanceId(entityType, entityId, warehouseId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<StockBalance> getBalances(EntityType entityType, Long entityId) {
+        return stockBalanceRepository.findByEntityTypeAndEntityIdOrderByWarehouseId(entityType, entityId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StockBalance> getWarehouseBalances(Long warehouseId) {
+        return stockBalanceRepository.findByWarehouseIdOrderByEntityTypeAscEntityIdAsc(warehouseId);
+    }
+
+    // Unguarded; stock without a warehouse is only tracked in the total
+    public void add(EntityType entityType, Long entityId, Long warehouseId, BigDecimal delta) {
+        if (warehouseId == null || delta == null || delta.signum() == 0) {
+            return;
+        }
+        stockBalanceRepository.applyDelta(entityType.name(), entityId, warehouseId, delta);
+        liveFeedBroadcaster.stockChanged(entityType, entityId, warehouseId, delta);
+    }
+
+    // Returns false when the warehouse holds less than the quantity
+    public boolean tryTake(EntityType entityType, Long entityId, Long warehouseId, BigDecimal quantity) {
+        if (warehouseId == null || quantity.signum() == 0) {
+            return true;
+        }
+        if (stockBalanceRepository.applyGuardedDelta(entityType.name(), entityId, warehouseId, quantity.negate()) == 0) {
+            return false;
+        }
+        liveFeedBroadcaster.stockChanged(entityType, entityId, warehouseId, quantity.negate());
+        return true;
+    }
+
+    public void removeAll(EntityType entityType, Long entityId) {
+        if (liveFeedBroadcaster.getSubscriberCount() > 0) {
+            for (StockBalance balance : getBalances(entityType, entityId)) {
+                liveFeedBroadcaster.stockChanged(entityType, entityId, balance.getWarehouseId(), balance.getQuantity().negate());
+            }
+        }
+        stockBalanceRepository.deleteByEntity(entityType, entityId);
+    }
+
+    /**
+     * Moves stock between two warehouses. Both rows are created if missing and locked lowest warehouse id
+     * first, so concurrent transfers in opposite directions queue up instead of deadlocking.
+     */
+    public void transfer(EntityType entityType, Long entityId, Long sourceWarehouseId, Long targetWarehouseId,
+                         BigDecimal quantity) {
+        if (Objects.equals(sourceWarehouseId, targetWarehouseId)) {
+            throw new RuntimeException("Source and target warehouse must be different");
+        }
+        if (quantity == null || quantity.signum() <= 0) {
+            throw new RuntimeException("Quantity must be greater than zero");
+        }
+
+        List<Long> warehouseIds = Stream.of(sourceWarehouseId, targetWarehouseId).sorted().toList();
+        for (Long warehouseId : warehouseIds) {
+            stockBalanceRepository.applyDelta(entityType.name(), entityId, warehouseId, BigDecimal.ZERO);
+        }
+        List<StockBalance> balances = stockBalanceRepository.lockBalances(entityType, entityId, warehouseIds);
+        StockBalance source = balanceFor(balances, sourceWarehouseId);
+        StockBalance target = balanceFor(balances, targetWarehouseId);
+
+        if (source.getQuantity().compareTo(quantity) < 0) {
+            throw new RuntimeException("Insufficient quantity in source warehouse");
+        }
+        source.setQuantity(source.getQuantity().subtract(quantity));
+        target.setQuantity(target.getQuantity().add(quantity));
+        liveFeedBroadcaster.stockChanged(entityType, entityId, sourceWarehouseId, quantity.negate());
+        liveFeedBroadcaster.stockChanged(entityType, entityId, targetWarehouseId, quantity);
+    }
+
+    private StockBalance balanceFor(List<StockBalance> balances, Long warehouseId) {
+        return balances.stream()
+                .filter(balance -> balance.getWarehouseId().equals(warehouseId))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Stock balance not found"));
+    }
+}
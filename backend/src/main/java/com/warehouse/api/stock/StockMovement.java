@@ -0,0 +1,27 @@
+package com.warehouse.api.stock;
+
+import com.warehouse.enums.EntityType;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+
+// A signed quantity change of one item or product in one warehouse, valued at unitValue for the stock rollup
+public record StockMovement(EntityType entityType, Long entityId, Long warehouseId, BigDecimal unitValue,
+                            BigDecimal delta) {
+
+    // Items before products, then by id and warehouse: the order batched changes take their row locks in
+    public static final Comparator<StockMovement> LOCK_ORDER = Comparator.comparing(StockMovement::entityType)
+            .thenComparing(StockMovement::entityId)
+            .thenComparing(StockMovement::warehouseId);
+
+    public StockMovement plus(BigDecimal more) {
+        return new StockMovement(entityType, entityId, warehouseId, unitValue, delta.add(more));
+    }
+
+    public Entity entity() {
+        return new Entity(entityType, entityId);
+    }
+
+    public record Entity(EntityType entityType, Long entityId) {
+    }
+}
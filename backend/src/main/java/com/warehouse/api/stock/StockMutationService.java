@@ -0,0 +1,296 @@
+package com.warehouse.api.stock;
+
+import com.warehouse.api.dashboard.WarehouseStockSummaryService;
+import com.warehouse.api.item.Item;
+import com.warehouse.api.item.ItemRepository;
+import com.warehouse.api.live.LiveFeedBroadcaster;
+import com.warehouse.api.product.Product;
+import com.warehouse.api.product.ProductRepository;
+import com.warehouse.api.warehouse.Warehouse;
+import com.warehouse.enums.EntityType;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Single entry point for item and product quantity changes.
+ * <p>
+ * Deltas are applied with a guarded {@code UPDATE ... SET quantity = quantity + delta WHERE quantity + delta >= 0},
+ * so concurrent postings serialize on the row lock in the database instead of racing on a value read into Java.
+ * A decrease that would drive stock negative updates no row and fails.
+ * <p>
+ * Every change also moves the {@link StockBalance} of the posting warehouse (the item's or product's own
+ * warehouse when none is given). The item or product row is always updated before the balance row, so
+ * concurrent postings take their row locks in the same order.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StockMutationService {
+
+    // Same guards as ItemRepository and ProductRepository.applyQuantityDelta, for JDBC batches
+    private static final String ITEM_DELTA = "UPDATE item SET quantity = COALESCE(quantity, 0) + ? WHERE item_id = ? " +
+            "AND (? >= 0 OR COALESCE(quantity, 0) + ? >= reserved_quantity)";
+    private static final String PRODUCT_DELTA = "UPDATE product SET quantity = COALESCE(quantity, 0) + ? WHERE product_id = ? " +
+            "AND (? >= 0 OR COALESCE(quantity, 0) + ? >= 0)";
+
+    private final ItemRepository itemRepository;
+    private final ProductRepository productRepository;
+    private final WarehouseStockSummaryService stockSummaryService;
+    private final StockBalanceService stockBalanceService;
+    private final LiveFeedBroadcaster liveFeedBroadcaster;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    public void increaseItem(Item item, Warehouse warehouse, BigDecimal quantity) {
+        changeItem(item, warehouse, quantity);
+    }
+
+    public void decreaseItem(Item item, Warehouse warehouse, BigDecimal quantity) {
+        changeItem(item, warehouse, quantity.negate());
+    }
+
+    public void increaseProduct(Product product, Warehouse warehouse, BigDecimal quantity) {
+        changeProduct(product, warehouse, quantity);
+    }
+
+    public void decreaseProduct(Product product, Warehouse warehouse, BigDecimal quantity) {
+        changeProduct(product, warehouse, quantity.negate());
+    }
+
+    /**
+     * Adds stock for many lines at once, e.g. when a supplier delivery is received. Lines are merged per item
+     * and written as one JDBC batch in item id order, plus one batch for the receiving warehouse's balances.
+     * Receiving only adds stock, so no guard is needed, and the managed items are not refreshed: their
+     * in-memory quantity is stale until the next load.
+     */
+    public void increaseItems(List<ItemQuantity> lines, Warehouse warehouse) {
+        Map<Long, ItemQuantity> byItem = new TreeMap<>();
+        for (ItemQuantity line : lines) {
+            byItem.merge(line.item().getItemId(), line, (existing, added) -> existing.plus(added.quantity()));
+        }
+        if (byItem.isEmpty()) {
+            return;
+        }
+
+        entityManager.flush();
+        List<ItemQuantity> merged = new ArrayList<>(byItem.values());
+        jdbcTemplate.batchUpdate("UPDATE item SET quantity = COALESCE(quantity, 0) + ? WHERE item_id = ?",
+                merged, merged.size(), (statement, line) -> {
+                    statement.setBigDecimal(1, line.quantity());
+                    statement.setLong(2, line.item().getItemId());
+                });
+        List<ItemQuantity> located = merged.stream()
+                .filter(line -> balanceWarehouseId(warehouse, line.item().getWarehouse()) != null)
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO stock_balance (entity_type, entity_id, warehouse_id, quantity) " +
+                        "VALUES ('ITEMS', ?, ?, ?) ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)",
+                located, located.size(), (statement, line) -> {
+                    statement.setLong(1, line.item().getItemId());
+                    statement.setLong(2, balanceWarehouseId(warehouse, line.item().getWarehouse()));
+                    statement.setBigDecimal(3, line.quantity());
+                });
+        for (ItemQuantity line : located) {
+            liveFeedBroadcaster.stockChanged(EntityType.ITEMS, line.item().getItemId(),
+                    balanceWarehouseId(warehouse, line.item().getWarehouse()), line.quantity());
+        }
+        stockSummaryService.itemQuantitiesChanged(warehouse != null ? warehouse.getWarehouseId() : null, merged);
+    }
+
+    /**
+     * Applies many signed movements set-based, e.g. a batch of postings. Movements are merged per entity and
+     * warehouse and written in {@link StockMovement#LOCK_ORDER} as JDBC batches: one per entity table for the
+     * totals, then one for the balance decreases and one for the increases. Guards are the same as for a
+     * single change. An entity whose merged movement fails a guard is left as it was, and is returned so the
+     * caller can apply its movements one by one. Managed entities are not refreshed.
+     */
+    public Set<StockMovement.Entity> tryApplyAll(List<StockMovement> movements) {
+        Map<StockMovement, StockMovement> merged = new TreeMap<>(StockMovement.LOCK_ORDER);
+        for (StockMovement movement : movements) {
+            merged.merge(movement, movement, (existing, added) -> existing.plus(added.delta()));
+        }
+        // Iterating the merged movements in lock order keeps the entities in lock order too
+        Map<StockMovement.Entity, BigDecimal> totals = new LinkedHashMap<>();
+        for (StockMovement movement : merged.values()) {
+            totals.merge(movement.entity(), movement.delta(), BigDecimal::add);
+        }
+        Set<StockMovement.Entity> rejected = new HashSet<>();
+        if (totals.isEmpty()) {
+            return rejected;
+        }
+
+        entityManager.flush();
+        rejected.addAll(applyTotals(totals, true));
+
+        List<StockMovement> decreases = merged.values().stream()
+                .filter(movement -> movement.delta().signum() < 0 && !rejected.contains(movement.entity()))
+                .toList();
+        int[] taken = jdbcTemplate.batchUpdate("UPDATE stock_balance SET quantity = quantity + ? " +
+                        "WHERE entity_type = ? AND entity_id = ? AND warehouse_id = ? AND quantity + ? >= 0",
+                decreases.stream()
+                        .map(movement -> new Object[]{movement.delta(), movement.entityType().name(),
+                                movement.entityId(), movement.warehouseId(), movement.delta()})
+                        .toList());
+        // A warehouse short of stock rejects its entity: put back the total and any balance already taken
+        Map<StockMovement.Entity, BigDecimal> shortTotals = new LinkedHashMap<>();
+        for (int i = 0; i < taken.length; i++) {
+            if (taken[i] == 0) {
+                StockMovement.Entity entity = decreases.get(i).entity();
+                shortTotals.put(entity, totals.get(entity).negate());
+            }
+        }
+        if (!shortTotals.isEmpty()) {
+            applyTotals(shortTotals, false);
+            List<Object[]> putBack = new ArrayList<>();
+            for (int i = 0; i < taken.length; i++) {
+                StockMovement movement = decreases.get(i);
+                if (taken[i] != 0 && shortTotals.containsKey(movement.entity())) {
+                    putBack.add(new Object[]{movement.delta().negate(), movement.entityType().name(),
+                            movement.entityId(), movement.warehouseId()});
+                }
+            }
+            jdbcTemplate.batchUpdate("UPDATE stock_balance SET quantity = quantity + ? " +
+                    "WHERE entity_type = ? AND entity_id = ? AND warehouse_id = ?", putBack);
+            rejected.addAll(shortTotals.keySet());
+        }
+
+        List<StockMovement> increases = merged.values().stream()
+                .filter(movement -> movement.delta().signum() > 0 && !rejected.contains(movement.entity()))
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO stock_balance (entity_type, entity_id, warehouse_id, quantity) " +
+                        "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)",
+                increases.stream()
+                        .map(movement -> new Object[]{movement.entityType().name(), movement.entityId(),
+                                movement.warehouseId(), movement.delta()})
+                        .toList());
+
+        List<StockMovement> applied = merged.values().stream()
+                .filter(movement -> movement.delta().signum() != 0 && !rejected.contains(movement.entity()))
+                .toList();
+        for (StockMovement movement : applied) {
+            liveFeedBroadcaster.stockChanged(movement.entityType(), movement.entityId(), movement.warehouseId(),
+                    movement.delta());
+        }
+        stockSummaryService.quantitiesChanged(applied);
+        return rejected;
+    }
+
+    // Applies the delta without failing; returns false when it would drive stock negative or into reserved stock
+    public boolean tryChangeItem(Item item, Warehouse warehouse, BigDecimal delta) {
+        Long warehouseId = balanceWarehouseId(warehouse, item.getWarehouse());
+        if (itemRepository.applyQuantityDelta(item.getItemId(), delta) == 0) {
+            return false;
+        }
+        if (delta.signum() < 0 && !stockBalanceService.tryTake(EntityType.ITEMS, item.getItemId(), warehouseId, delta.negate())) {
+            // The total had enough but this warehouse does not; put the total back and report the shortage
+            itemRepository.applyQuantityDelta(item.getItemId(), delta.negate());
+            return false;
+        }
+        if (delta.signum() > 0) {
+            stockBalanceService.add(EntityType.ITEMS, item.getItemId(), warehouseId, delta);
+        }
+        stockSummaryService.itemQuantityChanged(item, warehouseId, delta);
+        return true;
+    }
+
+    public boolean tryChangeProduct(Product product, Warehouse warehouse, BigDecimal delta) {
+        Long warehouseId = balanceWarehouseId(warehouse, product.getWarehouse());
+        if (productRepository.applyQuantityDelta(product.getProductId(), delta) == 0) {
+            return false;
+        }
+        if (delta.signum() < 0 && !stockBalanceService.tryTake(EntityType.PRODUCTS, product.getProductId(), warehouseId, delta.negate())) {
+            productRepository.applyQuantityDelta(product.getProductId(), delta.negate());
+            return false;
+        }
+        if (delta.signum() > 0) {
+            stockBalanceService.add(EntityType.PRODUCTS, product.getProductId(), warehouseId, delta);
+        }
+        stockSummaryService.productQuantityChanged(product, warehouseId, delta);
+        return true;
+    }
+
+    /**
+     * Consumes stock that was reserved for a production. The reservation already guarantees the total, so
+     * only the posting warehouse can still be short.
+     */
+    public void consumeReservedItem(Item item, Warehouse warehouse, BigDecimal quantity) {
+        if (itemRepository.consumeReservedQuantity(item.getItemId(), quantity) == 0) {
+            throw new RuntimeException("Reserved quantity exceeded for item: " + item.getName());
+        }
+        Long warehouseId = balanceWarehouseId(warehouse, item.getWarehouse());
+        if (!stockBalanceService.tryTake(EntityType.ITEMS, item.getItemId(), warehouseId, quantity)) {
+            throw new RuntimeException("Insufficient quantity in warehouse for item: " + item.getName());
+        }
+        stockSummaryService.itemQuantityChanged(item, warehouseId, quantity.negate());
+        refresh(item);
+    }
+
+    /**
+     * Moves stock between two warehouses; the total on the item or product does not change. This is the only
+     * way stock changes warehouse: editing an entity's own warehouse leaves its stock where it is.
+     */
+    public void transfer(EntityType entityType, Long entityId, BigDecimal unitValue, Warehouse source, Warehouse target,
+                         BigDecimal quantity) {
+        stockBalanceService.transfer(entityType, entityId, source.getWarehouseId(), target.getWarehouseId(), quantity);
+        stockSummaryService.stockTransferred(entityType, unitValue, source.getWarehouseId(), target.getWarehouseId(), quantity);
+    }
+
+    private void changeItem(Item item, Warehouse warehouse, BigDecimal delta) {
+        if (!tryChangeItem(item, warehouse, delta)) {
+            throw new RuntimeException("Insufficient quantity for item: " + item.getName());
+        }
+        refresh(item);
+    }
+
+    private void changeProduct(Product product, Warehouse warehouse, BigDecimal delta) {
+        if (!tryChangeProduct(product, warehouse, delta)) {
+            throw new RuntimeException("Insufficient quantity for product: " + product.getName());
+        }
+        refresh(product);
+    }
+
+    // One batch per entity table, items first; returns the entities a guarded decrease left untouched
+    private Set<StockMovement.Entity> applyTotals(Map<StockMovement.Entity, BigDecimal> totals, boolean guarded) {
+        Set<StockMovement.Entity> untouched = new HashSet<>();
+        for (EntityType entityType : EntityType.values()) {
+            List<Map.Entry<StockMovement.Entity, BigDecimal>> rows = totals.entrySet().stream()
+                    .filter(total -> total.getKey().entityType() == entityType)
+                    .toList();
+            // An unguarded write passes zero as the guard delta, which always satisfies it
+            int[] updated = jdbcTemplate.batchUpdate(entityType == EntityType.ITEMS ? ITEM_DELTA : PRODUCT_DELTA,
+                    rows.stream()
+                            .map(row -> new Object[]{row.getValue(), row.getKey().entityId(),
+                                    guarded ? row.getValue() : BigDecimal.ZERO, guarded ? row.getValue() : BigDecimal.ZERO})
+                            .toList());
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    untouched.add(rows.get(i).getKey());
+                }
+            }
+        }
+        return untouched;
+    }
+
+    // Bulk updates bypass the persistence context, so reload the managed copy to keep it in step
+    private void refresh(Object entity) {
+        if (entityManager.contains(entity)) {
+            entityManager.refresh(entity);
+        }
+    }
+
+    private static Long balanceWarehouseId(Warehouse warehouse, Warehouse homeWarehouse) {
+        Warehouse effective = warehouse != null ? warehouse : homeWarehouse;
+        return effective != null ? effective.getWarehouseId() : null;
+    }
+}
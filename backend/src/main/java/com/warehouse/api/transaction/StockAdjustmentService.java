@@ -0,0 +1,87 @@
+package com.warehouse.api.transaction;
+
+import com.warehouse.api.dashboard.StockPosition;
+import com.warehouse.api.item.Item;
+import com.warehouse.api.product.Product;
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.TransactionStatus;
+import com.warehouse.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Records opening stock and direct quantity edits of items and products in the ledger, so the counter on the
+ * row stays the net of its completed postings and reconciliation can rebuild it from them. Both directions are
+ * posted as an ADJUSTMENT on the entity's own warehouse, signed by direction, so a correction never counts as a sale.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StockAdjustmentService {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionOutboxService transactionOutboxService;
+
+    public void itemOpened(Item item) {
+        StockPosition position = StockPosition.of(item);
+        Transaction transaction = itemPosting(item);
+        record(transaction, position.quantity(), position.unitValue(), "OPENING-" + item.getCode(),
+                "Opening stock - " + item.getCode());
+    }
+
+    public void itemCounted(Item item, BigDecimal delta) {
+        Transaction transaction = itemPosting(item);
+        record(transaction, delta, StockPosition.of(item).unitValue(), "COUNT-" + item.getCode(),
+                "Stock count correction - " + item.getCode());
+    }
+
+    public void productOpened(Product product) {
+        StockPosition position = StockPosition.of(product);
+        Transaction transaction = productPosting(product);
+        record(transaction, position.quantity(), position.unitValue(), "OPENING-" + product.getCode(),
+                "Opening stock - " + product.getCode());
+    }
+
+    public void productCounted(Product product, BigDecimal delta) {
+        Transaction transaction = productPosting(product);
+        record(transaction, delta, StockPosition.of(product).unitValue(), "COUNT-" + product.getCode(),
+                "Stock count correction - " + product.getCode());
+    }
+
+    private Transaction itemPosting(Item item) {
+        Transaction transaction = new Transaction();
+        transaction.setEntityType(EntityType.ITEMS);
+        transaction.setItem(item);
+        transaction.setWarehouse(item.getWarehouse());
+        return transaction;
+    }
+
+    private Transaction productPosting(Product product) {
+        Transaction transaction = new Transaction();
+        transaction.setEntityType(EntityType.PRODUCTS);
+        transaction.setProduct(product);
+        transaction.setWarehouse(product.getWarehouse());
+        return transaction;
+    }
+
+    // Nothing is posted when the quantity did not move
+    private void record(Transaction transaction, BigDecimal delta, BigDecimal unitPrice, String referenceNumber, String notes) {
+        if (delta == null || delta.signum() == 0) {
+            return;
+        }
+        transaction.setTransactionType(TransactionType.ADJUSTMENT);
+        transaction.setQuantity(delta);
+        transaction.setUnitPrice(unitPrice);
+        transaction.setTotalPrice(unitPrice.multiply(delta));
+        transaction.setStatus(TransactionStatus.COMPLETED);
+        transaction.setTransactionDate(LocalDateTime.now());
+        transaction.setReferenceNumber(referenceNumber);
+        transaction.setNotes(notes);
+        transactionRepository.save(transaction);
+        transactionOutboxService.recorded(transaction);
+    }
+}
@@ -1,5 +1,6 @@
 package com.warehouse.api.transaction;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.warehouse.api.item.Item;
 import com.warehouse.api.product.Product;
@@ -10,6 +11,7 @@ import com.warehouse.enums.EntityType;
 import com.warehouse.enums.TransactionType;
 import com.warehouse.enums.TransactionStatus;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -27,7 +29,8 @@ import java.time.LocalDateTime;
 public class Transaction extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
     @Column(name = "transaction_id")
     private Long transactionId;
 
@@ -56,13 +59,23 @@ public class Transaction extends Auditable {
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Warehouse warehouse;
 
+    // Sending side of a TRANSFER; warehouse is then the receiving side
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "source_warehouse_id")
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+    private Warehouse sourceWarehouse;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "user_id")
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private User user;
 
+    // Client an OUTBOUND posting was sold to
+    @Column(name = "client_id")
+    private Long clientId;
+
+    // Signed for an ADJUSTMENT (a count correction can take stock away), positive for every other type
     @NotNull
-    @DecimalMin(value = "0.0", inclusive = false)
     @Column(precision = 10, scale = 3)
     private BigDecimal quantity;
 
@@ -70,7 +83,7 @@ public class Transaction extends Auditable {
     @Column(name = "unit_price", precision = 10, scale = 2)
     private BigDecimal unitPrice = BigDecimal.ZERO;
 
-    @DecimalMin(value = "0.0", inclusive = true)
+    // Carries the sign of the quantity
     @Column(name = "total_price", precision = 10, scale = 2)
     private BigDecimal totalPrice = BigDecimal.ZERO;
 
@@ -87,4 +100,13 @@ public class Transaction extends Auditable {
     @Size(max = 100)
     @Column(name = "reference_number")
     private String referenceNumber;
-}
\ No newline at end of file
+
+    @JsonIgnore
+    @AssertTrue(message = "Quantity must be greater than 0, or non-zero for an adjustment")
+    public boolean isQuantityValid() {
+        if (quantity == null) {
+            return true;
+        }
+        return transactionType == TransactionType.ADJUSTMENT ? quantity.signum() != 0 : quantity.signum() > 0;
+    }
+}
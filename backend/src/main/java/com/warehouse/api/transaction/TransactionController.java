@@ -1,15 +1,30 @@
 package com.warehouse.api.transaction;
 
+import com.warehouse.api.transaction.dto.TransactionBatchLine;
+import com.warehouse.api.transaction.dto.TransactionBatchResult;
+import com.warehouse.api.transaction.dto.TransactionPage;
+import com.warehouse.api.transaction.dto.TransactionStats;
+import com.warehouse.api.transaction.dto.TransferRequest;
 import com.warehouse.enums.EntityType;
+import com.warehouse.enums.ExportFormat;
+import com.warehouse.enums.StatsGranularity;
 import com.warehouse.enums.TransactionType;
 import com.warehouse.enums.TransactionStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -21,10 +36,29 @@ import java.util.Map;
 public class TransactionController {
 
     private final TransactionService transactionService;
-
-    @GetMapping
-    public ResponseEntity<List<Transaction>> getAllTransactions() {
-        return ResponseEntity.ok(transactionService.getAllTransactions());
+    private final TransactionStatsService transactionStatsService;
+    private final TransactionExportService transactionExportService;
+
+    // The ledger is only served a page at a time; follow nextCursor for older rows
+    @GetMapping({"", "/page"})
+    public ResponseEntity<TransactionPage> getTransactionPage(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(transactionService.getTransactionPage(cursor, size));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TransactionStats> getTransactionStats(
+            @RequestParam(defaultValue = "month") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long warehouseId) {
+        StatsGranularity statsGranularity;
+        try {
+            statsGranularity = StatsGranularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid granularity: " + granularity);
+        }
+        return ResponseEntity.ok(transactionStatsService.getStats(statsGranularity, startDate, endDate, warehouseId));
     }
 
     @GetMapping("/{id}")
@@ -40,6 +74,16 @@ public class TransactionController {
         return ResponseEntity.ok(createdTransaction);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<TransactionBatchResult> createTransactionBatch(@RequestBody List<TransactionBatchLine> lines) {
+        return ResponseEntity.ok(transactionService.createTransactionBatch(lines));
+    }
+
+    @PostMapping("/transfer")
+    public ResponseEntity<Transaction> createTransferTransaction(@RequestBody TransferRequest request) {
+        return ResponseEntity.ok(transactionService.createTransferTransaction(request));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Transaction> updateTransaction(@PathVariable Long id,
                                                         @Valid @RequestBody Transaction transactionDetails) {
@@ -95,6 +139,40 @@ public class TransactionController {
         return ResponseEntity.ok(transactionService.getTransactionsByDateRange(startDate, endDate));
     }
 
+    // Streams the ledger for the range as it is read; use this instead of /date-range for large ranges
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid export format: " + format);
+        }
+
+        String fileName = "transactions-" + startDate.toLocalDate() + "-" + endDate.toLocalDate() + "."
+                + exportFormat.name().toLowerCase();
+        MediaType contentType = exportFormat == ExportFormat.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        if (!transactionExportService.tryStartExport()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many exports running, please retry");
+        }
+        StreamingResponseBody body = out -> {
+            try {
+                transactionExportService.write(exportFormat, startDate, endDate, out);
+            } finally {
+                transactionExportService.finishExport();
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(contentType)
+                .body(body);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<List<Transaction>> searchTransactionsByReference(@RequestParam String reference) {
         return ResponseEntity.ok(transactionService.searchTransactionsByReference(reference));
@@ -139,12 +217,13 @@ public class TransactionController {
         Long itemId = Long.valueOf(request.get("itemId").toString());
         Long warehouseId = Long.valueOf(request.get("warehouseId").toString());
         Long userId = Long.valueOf(request.get("userId").toString());
+        Long clientId = request.get("clientId") != null ? Long.valueOf(request.get("clientId").toString()) : null;
         BigDecimal quantity = new BigDecimal(request.get("quantity").toString());
         BigDecimal unitPrice = new BigDecimal(request.get("unitPrice").toString());
         String notes = request.get("notes") != null ? request.get("notes").toString() : "";
 
         Transaction transaction = transactionService.createItemOutboundTransaction(
-                itemId, warehouseId, userId, quantity, unitPrice, notes);
+                itemId, warehouseId, userId, clientId, quantity, unitPrice, notes);
         return ResponseEntity.ok(transaction);
     }
 
@@ -153,12 +232,13 @@ public class TransactionController {
         Long productId = Long.valueOf(request.get("productId").toString());
         Long warehouseId = Long.valueOf(request.get("warehouseId").toString());
         Long userId = Long.valueOf(request.get("userId").toString());
+        Long clientId = request.get("clientId") != null ? Long.valueOf(request.get("clientId").toString()) : null;
         BigDecimal quantity = new BigDecimal(request.get("quantity").toString());
         BigDecimal unitPrice = new BigDecimal(request.get("unitPrice").toString());
         String notes = request.get("notes") != null ? request.get("notes").toString() : "";
 
         Transaction transaction = transactionService.createProductOutboundTransaction(
-                productId, warehouseId, userId, quantity, unitPrice, notes);
+                productId, warehouseId, userId, clientId, quantity, unitPrice, notes);
         return ResponseEntity.ok(transaction);
     }
 }
\ No newline at end of file
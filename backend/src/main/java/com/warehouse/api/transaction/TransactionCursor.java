@@ -0,0 +1,35 @@
+package com.warehouse.api.transaction;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in the ledger, ordered by (transactionDate DESC, transactionId DESC).
+ * Rows without a transaction date sort after all dated rows, so a null date is a valid position.
+ */
+record TransactionCursor(LocalDateTime transactionDate, Long transactionId) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        String raw = (transactionDate != null ? transactionDate.toString() : "") + SEPARATOR + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String date = raw.substring(0, separator);
+            return new TransactionCursor(
+                    date.isEmpty() ? null : LocalDateTime.parse(date),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid transaction cursor");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.warehouse.api.transaction;
+
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.TransactionEventType;
+import com.warehouse.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// One row of transaction_outbox: a posting as it looked when it was recorded or reversed
+public record TransactionEvent(long outboxId, long transactionId, TransactionEventType eventType,
+                               LocalDateTime transactionDate, TransactionType transactionType, EntityType entityType,
+                               Long entityId, Long warehouseId, Long sourceWarehouseId, Long clientId,
+                               BigDecimal quantity, BigDecimal totalPrice) {
+
+    public int sign() {
+        return eventType == TransactionEventType.REVERSED ? -1 : 1;
+    }
+
+    public BigDecimal signedQuantity() {
+        return quantity != null ? quantity.multiply(BigDecimal.valueOf(sign())) : BigDecimal.ZERO;
+    }
+
+    public BigDecimal signedTotalPrice() {
+        return totalPrice != null ? totalPrice.multiply(BigDecimal.valueOf(sign())) : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,220 @@
+package com.warehouse.api.transaction;
+
+import com.warehouse.enums.ExportFormat;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Writes the ledger for a date range as CSV or XLSX straight to an output stream. Rows are read with a
+ * forward-only streaming result set and written one at a time, so memory stays flat however many rows the
+ * range holds: nothing is collected into a list and no entities or association graphs are loaded.
+ * <p>
+ * Each export holds a database connection for as long as it streams, so only {@code export.max-concurrent}
+ * run at once. CSV text that would start a formula is prefixed with an apostrophe; XLSX text cells are
+ * typed as strings, which spreadsheet programs never evaluate, so they are written as they are.
+ */
+@Service
+public class TransactionExportService {
+
+    private static final String[] HEADERS = {
+            "Transaction ID", "Date", "Reference", "Type", "Entity", "Code", "Name", "Warehouse",
+            "Source warehouse", "User", "Client ID", "Quantity", "Unit price", "Total price", "Status", "Notes"
+    };
+
+    private static final String EXPORT_QUERY = "SELECT t.transaction_id, t.transaction_date, t.reference_number, " +
+            "t.transaction_type, t.entity_type, COALESCE(i.code, p.code), COALESCE(i.name, p.name), w.name, sw.name, " +
+            "u.username, t.client_id, t.quantity, t.unit_price, t.total_price, t.status, t.notes " +
+            "FROM `transaction` t " +
+            "LEFT JOIN item i ON i.item_id = t.item_id " +
+            "LEFT JOIN product p ON p.product_id = t.product_id " +
+            "LEFT JOIN warehouse w ON w.warehouse_id = t.warehouse_id " +
+            "LEFT JOIN warehouse sw ON sw.warehouse_id = t.source_warehouse_id " +
+            "LEFT JOIN `user` u ON u.user_id = t.user_id " +
+            "WHERE t.transaction_date BETWEEN ? AND ? ORDER BY t.transaction_date, t.transaction_id";
+
+    // Rows per sheet, leaving one for the header (Excel's limit is 1,048,576)
+    private static final int MAX_SHEET_ROWS = 1_048_575;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final int xlsxWindow;
+    private final Semaphore exportPermits;
+
+    public TransactionExportService(DataSource dataSource, @Value("${export.xlsx-window:200}") int xlsxWindow,
+                                    @Value("${export.max-concurrent:2}") int maxConcurrent) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J streams rows one by one for this fetch size instead of buffering the whole result
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.xlsxWindow = xlsxWindow;
+        this.exportPermits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    // Claims an export slot without waiting; every successful call must be paired with finishExport()
+    public boolean tryStartExport() {
+        return exportPermits.tryAcquire();
+    }
+
+    public void finishExport() {
+        exportPermits.release();
+    }
+
+    public void write(ExportFormat format, LocalDateTime startDate, LocalDateTime endDate, OutputStream out)
+            throws IOException {
+        switch (format) {
+            case CSV -> writeCsv(startDate, endDate, out);
+            case XLSX -> writeXlsx(startDate, endDate, out);
+        }
+    }
+
+    public void writeCsv(LocalDateTime startDate, LocalDateTime endDate, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // Byte order mark so Excel opens the file as UTF-8
+        writer.write('\uFEFF');
+        writeCsvRow(writer, HEADERS);
+        streamRows(startDate, endDate, values -> writeCsvRow(writer, values));
+        writer.flush();
+    }
+
+    public void writeXlsx(LocalDateTime startDate, LocalDateTime endDate, OutputStream out) throws IOException {
+        // Only the last xlsxWindow rows stay in memory; older rows are flushed to a compressed temp file
+        SXSSFWorkbook workbook = new SXSSFWorkbook(xlsxWindow);
+        workbook.setCompressTempFiles(true);
+        try {
+            XlsxSheetWriter sheetWriter = new XlsxSheetWriter(workbook);
+            streamRows(startDate, endDate, sheetWriter::append);
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void streamRows(LocalDateTime startDate, LocalDateTime endDate, RowSink sink) throws IOException {
+        try {
+            streamingJdbcTemplate.query(EXPORT_QUERY, rs -> {
+                Object[] values = new Object[HEADERS.length];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = rs.getObject(i + 1);
+                }
+                try {
+                    sink.accept(values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
+        } catch (UncheckedIOException e) {
+            // The client went away; stop reading instead of exporting into nothing
+            throw e.getCause();
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Timestamp timestamp ? timestamp.toLocalDateTime().toString() : csvText(value);
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    // CSV has no cell types, so text starting with a formula character is prefixed to be shown as text
+    // instead of being evaluated; numbers are written as they are, negative ones included
+    private static String csvText(Object value) {
+        String text = value.toString();
+        if (value instanceof Number || text.isEmpty()) {
+            return text;
+        }
+        return switch (text.charAt(0)) {
+            case '=', '+', '-', '@' -> "'" + text;
+            default -> text;
+        };
+    }
+
+    @FunctionalInterface
+    private interface RowSink {
+        void accept(Object[] values) throws IOException;
+    }
+
+    // Appends rows to the current sheet and starts a new one when Excel's row limit is reached
+    private static final class XlsxSheetWriter {
+
+        private final SXSSFWorkbook workbook;
+        private final CellStyle dateStyle;
+        private Sheet sheet;
+        private int sheetCount;
+        private int rowIndex;
+
+        XlsxSheetWriter(SXSSFWorkbook workbook) {
+            this.workbook = workbook;
+            this.dateStyle = workbook.createCellStyle();
+            this.dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+            nextSheet();
+        }
+
+        void append(Object[] values) {
+            if (rowIndex > MAX_SHEET_ROWS) {
+                nextSheet();
+            }
+            Row row = sheet.createRow(rowIndex++);
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                Cell cell = row.createCell(i);
+                if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else if (value instanceof LocalDateTime dateTime) {
+                    cell.setCellValue(dateTime);
+                    cell.setCellStyle(dateStyle);
+                } else if (value instanceof Timestamp timestamp) {
+                    cell.setCellValue(timestamp.toLocalDateTime());
+                    cell.setCellStyle(dateStyle);
+                } else {
+                    // A string cell is never evaluated, so no prefix that would end up in the data
+                    cell.setCellValue(value.toString());
+                }
+            }
+        }
+
+        private void nextSheet() {
+            sheetCount++;
+            sheet = workbook.createSheet(sheetCount == 1 ? "Transactions" : "Transactions " + sheetCount);
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+            }
+            rowIndex = 1;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.warehouse.api.transaction;
+
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Entity
+@Table(name = "transaction_movement_stat",
+        uniqueConstraints = @UniqueConstraint(name = "uk_movement_stat_bucket",
+                columnNames = {"bucket_date", "transaction_type", "entity_type", "warehouse_id"}))
+public class TransactionMovementStat {
+
+    // Warehouse id used for ledger rows that are not tied to a warehouse
+    public static final long NO_WAREHOUSE = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stat_id")
+    private Long statId;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType transactionType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private EntityType entityType;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private Long warehouseId = NO_WAREHOUSE;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount = 0L;
+
+    @Column(name = "total_quantity", precision = 19, scale = 3)
+    private BigDecimal totalQuantity = BigDecimal.ZERO;
+
+    @Column(name = "total_price", precision = 19, scale = 2)
+    private BigDecimal totalPrice = BigDecimal.ZERO;
+}
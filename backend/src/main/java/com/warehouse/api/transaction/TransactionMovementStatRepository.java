@@ -0,0 +1,79 @@
+package com.warehouse.api.transaction;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransactionMovementStatRepository extends JpaRepository<TransactionMovementStat, Long> {
+
+    // Start of the day, week (Monday) or month a daily bucket falls in
+    String PERIOD = "CASE :granularity WHEN 'DAY' THEN bucket_date " +
+            "WHEN 'WEEK' THEN bucket_date - INTERVAL WEEKDAY(bucket_date) DAY " +
+            "ELSE bucket_date - INTERVAL (DAYOFMONTH(bucket_date) - 1) DAY END";
+
+    // Rows of (period, transaction type, transaction count, total price), one per period and type
+    @Query(value = "SELECT " + PERIOD + " AS period, transaction_type, SUM(transaction_count), " +
+            "COALESCE(SUM(total_price), 0) FROM transaction_movement_stat " +
+            "WHERE bucket_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY period, transaction_type ORDER BY period", nativeQuery = true)
+    List<Object[]> rollUp(@Param("granularity") String granularity,
+                          @Param("startDate") LocalDate startDate,
+                          @Param("endDate") LocalDate endDate);
+
+    @Query(value = "SELECT " + PERIOD + " AS period, transaction_type, SUM(transaction_count), " +
+            "COALESCE(SUM(total_price), 0) FROM transaction_movement_stat " +
+            "WHERE warehouse_id = :warehouseId AND bucket_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY period, transaction_type ORDER BY period", nativeQuery = true)
+    List<Object[]> rollUpByWarehouse(@Param("granularity") String granularity,
+                                     @Param("warehouseId") Long warehouseId,
+                                     @Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_movement_stat " +
+            "(bucket_date, transaction_type, entity_type, warehouse_id, transaction_count, total_quantity, total_price) " +
+            "VALUES (:bucketDate, :transactionType, :entityType, :warehouseId, :transactionCount, :quantity, :totalPrice) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "transaction_count = transaction_count + VALUES(transaction_count), " +
+            "total_quantity = total_quantity + VALUES(total_quantity), " +
+            "total_price = total_price + VALUES(total_price)", nativeQuery = true)
+    void applyDelta(@Param("bucketDate") LocalDate bucketDate,
+                    @Param("transactionType") String transactionType,
+                    @Param("entityType") String entityType,
+                    @Param("warehouseId") Long warehouseId,
+                    @Param("transactionCount") long transactionCount,
+                    @Param("quantity") BigDecimal quantity,
+                    @Param("totalPrice") BigDecimal totalPrice);
+
+    // A locking read, so it does not fix the transaction's snapshot before a rebuild has locked the buckets
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TransactionMovementStat> findFirstByOrderByStatIdAsc();
+
+    // Rows of (bucket date, transaction type, entity type, warehouse, count, quantity, total price) for the ledger
+    // less the events still in the outbox, which the projection worker has yet to apply. A plain SELECT, so
+    // both tables are read from the same snapshot without locking them.
+    @Query(value = "SELECT bucket_date, transaction_type, entity_type, warehouse_id, SUM(transaction_count), " +
+            "SUM(total_quantity), SUM(total_price) FROM (" +
+            "SELECT DATE(transaction_date) AS bucket_date, transaction_type, entity_type, " +
+            "COALESCE(warehouse_id, 0) AS warehouse_id, 1 AS transaction_count, " +
+            "COALESCE(quantity, 0) AS total_quantity, COALESCE(total_price, 0) AS total_price " +
+            "FROM transaction WHERE transaction_date IS NOT NULL " +
+            "UNION ALL " +
+            "SELECT DATE(transaction_date), transaction_type, entity_type, COALESCE(warehouse_id, 0), " +
+            "IF(event_type = 'REVERSED', 1, -1), IF(event_type = 'REVERSED', 1, -1) * COALESCE(quantity, 0), " +
+            "IF(event_type = 'REVERSED', 1, -1) * COALESCE(total_price, 0) " +
+            "FROM transaction_outbox WHERE transaction_date IS NOT NULL " +
+            "AND transaction_type IS NOT NULL AND entity_type IS NOT NULL" +
+            ") ledger GROUP BY bucket_date, transaction_type, entity_type, warehouse_id", nativeQuery = true)
+    List<Object[]> bucketsFromLedger();
+}
@@ -0,0 +1,54 @@
+package com.warehouse.api.transaction;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the outbox and drains it batch by batch, so projections trail the ledger by about one poll interval.
+ * When a batch fails its events are applied one at a time instead, so a single bad event cannot hold up the
+ * rest: the good ones go through and the bad one is counted against {@code outbox.max-attempts}.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionOutboxRelay.class);
+
+    private final TransactionProjectionWorker projectionWorker;
+
+    @Value("${outbox.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:PT0.25S}")
+    public void drain() {
+        projectionWorker.findFailedEventIds(batchSize).forEach(this::applyOne);
+        try {
+            int applied;
+            do {
+                applied = projectionWorker.applyNextBatch(batchSize);
+            } while (applied == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Applying a batch of transaction outbox events failed, retrying them one at a time", e);
+            projectionWorker.findFreshEventIds(batchSize).forEach(this::applyOne);
+        }
+    }
+
+    private void applyOne(Long outboxId) {
+        try {
+            projectionWorker.applyEvent(outboxId);
+        } catch (RuntimeException e) {
+            try {
+                if (projectionWorker.recordFailure(outboxId, e)) {
+                    logger.error("Transaction outbox event {} moved to the dead-letter table", outboxId, e);
+                }
+            } catch (RuntimeException recordFailed) {
+                // Not counted; the event stays queued and is picked up on the next poll
+                logger.error("Recording the failure of transaction outbox event {} failed", outboxId, recordFailed);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.warehouse.api.transaction;
+
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.TransactionEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes ledger events to {@code transaction_outbox} inside the posting's own transaction: they commit or
+ * roll back together with the {@link Transaction} rows. Movement stats, client totals and dashboard counters
+ * are then brought up to date by {@link TransactionProjectionWorker} instead of on the posting path.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+@RequiredArgsConstructor
+public class TransactionOutboxService {
+
+    private static final String INSERT_EVENT = "INSERT INTO transaction_outbox " +
+            "(transaction_id, event_type, transaction_date, transaction_type, entity_type, entity_id, warehouse_id, " +
+            "source_warehouse_id, client_id, quantity, total_price, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void recorded(Transaction transaction) {
+        append(List.of(transaction), TransactionEventType.RECORDED);
+    }
+
+    // Call before changing or deleting the row; the event keeps the values being taken back
+    public void reversed(Transaction transaction) {
+        append(List.of(transaction), TransactionEventType.REVERSED);
+    }
+
+    public void recordedAll(List<Transaction> transactions) {
+        append(transactions, TransactionEventType.RECORDED);
+    }
+
+    private void append(List<Transaction> transactions, TransactionEventType eventType) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_EVENT, transactions, transactions.size(), (statement, transaction) -> {
+            statement.setLong(1, transaction.getTransactionId());
+            statement.setString(2, eventType.name());
+            statement.setObject(3, transaction.getTransactionDate() != null
+                    ? Timestamp.valueOf(transaction.getTransactionDate()) : null);
+            statement.setObject(4, transaction.getTransactionType() != null ? transaction.getTransactionType().name() : null);
+            statement.setObject(5, transaction.getEntityType() != null ? transaction.getEntityType().name() : null);
+            statement.setObject(6, entityId(transaction));
+            statement.setObject(7, transaction.getWarehouse() != null ? transaction.getWarehouse().getWarehouseId() : null);
+            statement.setObject(8, transaction.getSourceWarehouse() != null
+                    ? transaction.getSourceWarehouse().getWarehouseId() : null);
+            statement.setObject(9, transaction.getClientId());
+            statement.setBigDecimal(10, transaction.getQuantity());
+            statement.setBigDecimal(11, transaction.getTotalPrice());
+            statement.setTimestamp(12, createdAt);
+        });
+    }
+
+    private static Long entityId(Transaction transaction) {
+        if (transaction.getEntityType() == EntityType.PRODUCTS) {
+            return transaction.getProduct() != null ? transaction.getProduct().getProductId() : null;
+        }
+        return transaction.getItem() != null ? transaction.getItem().getItemId() : null;
+    }
+}
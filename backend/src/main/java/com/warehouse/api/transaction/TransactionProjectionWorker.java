@@ -0,0 +1,181 @@
+package com.warehouse.api.transaction;
+
+import com.warehouse.api.client.ClientRepository;
+import com.warehouse.api.dashboard.DashboardCounter;
+import com.warehouse.api.dashboard.DashboardCounterRepository;
+import com.warehouse.api.live.LiveFeedBroadcaster;
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.TransactionEventType;
+import com.warehouse.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Applies one batch of outbox events to the read-side projections and deletes them, all in one database
+ * transaction. An event is therefore applied exactly once: a failed batch rolls back with its events still
+ * queued, and {@code SKIP LOCKED} keeps two instances from claiming the same rows. Once the batch has
+ * committed it is handed to the live feed.
+ * <p>
+ * Batches only claim events that have never failed. {@link TransactionOutboxRelay} retries a failed batch one
+ * event at a time; an event that fails on its own has its attempts counted and is moved to
+ * {@code transaction_outbox_dead_letter} once it reaches {@code outbox.max-attempts}.
+ * <p>
+ * Leaving the outbox, applied or dead-lettered, stamps each recorded posting with the next value of
+ * {@code ledger_sequence}. The sequence row stays locked until the stamping transaction commits, so stamps
+ * become visible in sequence order; inventory checkpoints use that as their ledger boundary.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class TransactionProjectionWorker {
+
+    private static final String EVENT_COLUMNS = "outbox_id, transaction_id, event_type, transaction_date, " +
+            "transaction_type, entity_type, entity_id, warehouse_id, source_warehouse_id, client_id, quantity, total_price";
+    private static final String CLAIM_BATCH = "SELECT " + EVENT_COLUMNS +
+            " FROM transaction_outbox WHERE attempts = 0 ORDER BY outbox_id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String CLAIM_EVENT = "SELECT " + EVENT_COLUMNS +
+            " FROM transaction_outbox WHERE outbox_id = ? FOR UPDATE SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionStatsService transactionStatsService;
+    private final ClientRepository clientRepository;
+    private final DashboardCounterRepository dashboardCounterRepository;
+    private final LiveFeedBroadcaster liveFeedBroadcaster;
+
+    @Value("${outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    // Returns the number of events applied; fewer than the batch size means the outbox is drained
+    public int applyNextBatch(int batchSize) {
+        return apply(jdbcTemplate.query(CLAIM_BATCH, this::mapEvent, batchSize));
+    }
+
+    // Applies a single event; false when another instance holds it or it is already gone
+    public boolean applyEvent(long outboxId) {
+        return apply(jdbcTemplate.query(CLAIM_EVENT, this::mapEvent, outboxId)) > 0;
+    }
+
+    // Oldest events that have never failed, as a failed batch would have claimed them
+    @Transactional(readOnly = true)
+    public List<Long> findFreshEventIds(int limit) {
+        return jdbcTemplate.queryForList("SELECT outbox_id FROM transaction_outbox WHERE attempts = 0 " +
+                "ORDER BY outbox_id LIMIT ?", Long.class, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findFailedEventIds(int limit) {
+        return jdbcTemplate.queryForList("SELECT outbox_id FROM transaction_outbox WHERE attempts > 0 " +
+                "ORDER BY attempts, outbox_id LIMIT ?", Long.class, limit);
+    }
+
+    /**
+     * Counts a failed attempt for the event and moves it to the dead-letter table once it has failed
+     * {@code outbox.max-attempts} times. Returns true when it was dead-lettered.
+     */
+    public boolean recordFailure(long outboxId, RuntimeException failure) {
+        String error = String.valueOf(failure);
+        jdbcTemplate.update("UPDATE transaction_outbox SET attempts = attempts + 1, last_error = ? WHERE outbox_id = ?",
+                error.length() > 1000 ? error.substring(0, 1000) : error, outboxId);
+        int moved = jdbcTemplate.update("INSERT INTO transaction_outbox_dead_letter (" + EVENT_COLUMNS +
+                ", created_at, attempts, last_error, dead_lettered_at) SELECT " + EVENT_COLUMNS +
+                ", created_at, attempts, last_error, NOW(6) FROM transaction_outbox WHERE outbox_id = ? AND attempts >= ?",
+                outboxId, maxAttempts);
+        if (moved == 0) {
+            return false;
+        }
+        stamp(jdbcTemplate.queryForList("SELECT transaction_id FROM transaction_outbox " +
+                "WHERE outbox_id = ? AND event_type = 'RECORDED'", Long.class, outboxId));
+        jdbcTemplate.update("DELETE FROM transaction_outbox WHERE outbox_id = ?", outboxId);
+        return true;
+    }
+
+    private int apply(List<TransactionEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        transactionStatsService.applyEvents(events);
+
+        // Sales per client, folded so each client row is updated once per batch in id order
+        Map<Long, ClientDelta> clientDeltas = new TreeMap<>();
+        long transactionDelta = 0;
+        for (TransactionEvent event : events) {
+            transactionDelta += event.sign();
+            if (event.transactionType() == TransactionType.OUTBOUND && event.clientId() != null) {
+                clientDeltas.computeIfAbsent(event.clientId(), id -> new ClientDelta()).add(event);
+            }
+        }
+        clientDeltas.forEach((clientId, delta) -> clientRepository.applyTotalsDelta(clientId, delta.orders, delta.value));
+        if (transactionDelta != 0) {
+            dashboardCounterRepository.applyDelta(DashboardCounter.TRANSACTIONS, transactionDelta);
+        }
+
+        stamp(events.stream()
+                .filter(event -> event.eventType() == TransactionEventType.RECORDED)
+                .map(TransactionEvent::transactionId)
+                .toList());
+        jdbcTemplate.batchUpdate("DELETE FROM transaction_outbox WHERE outbox_id = ?", events, events.size(),
+                (statement, event) -> statement.setLong(1, event.outboxId()));
+        liveFeedBroadcaster.publishAfterCommit(events);
+        return events.size();
+    }
+
+    // Taken last, so the sequence row is only held for the rest of this transaction
+    private void stamp(List<Long> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+        Long first = jdbcTemplate.queryForObject("SELECT next_val FROM ledger_sequence FOR UPDATE", Long.class);
+        jdbcTemplate.update("UPDATE ledger_sequence SET next_val = ?", first + transactionIds.size());
+        List<long[]> stamps = new ArrayList<>();
+        for (int i = 0; i < transactionIds.size(); i++) {
+            stamps.add(new long[]{first + i, transactionIds.get(i)});
+        }
+        jdbcTemplate.batchUpdate("UPDATE `transaction` SET ledger_seq = ? WHERE transaction_id = ?",
+                stamps, stamps.size(), (statement, stamp) -> {
+                    statement.setLong(1, stamp[0]);
+                    statement.setLong(2, stamp[1]);
+                });
+    }
+
+    private TransactionEvent mapEvent(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp transactionDate = rs.getTimestamp("transaction_date");
+        String transactionType = rs.getString("transaction_type");
+        String entityType = rs.getString("entity_type");
+        return new TransactionEvent(
+                rs.getLong("outbox_id"),
+                rs.getLong("transaction_id"),
+                TransactionEventType.valueOf(rs.getString("event_type")),
+                transactionDate != null ? transactionDate.toLocalDateTime() : null,
+                transactionType != null ? TransactionType.valueOf(transactionType) : null,
+                entityType != null ? EntityType.valueOf(entityType) : null,
+                rs.getObject("entity_id", Long.class),
+                rs.getObject("warehouse_id", Long.class),
+                rs.getObject("source_warehouse_id", Long.class),
+                rs.getObject("client_id", Long.class),
+                rs.getBigDecimal("quantity"),
+                rs.getBigDecimal("total_price"));
+    }
+
+    private static class ClientDelta {
+        private int orders;
+        private BigDecimal value = BigDecimal.ZERO;
+
+        void add(TransactionEvent event) {
+            orders += event.sign();
+            value = value.add(event.signedTotalPrice());
+        }
+    }
+}
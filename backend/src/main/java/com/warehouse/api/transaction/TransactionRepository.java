@@ -2,11 +2,14 @@ package com.warehouse.api.transaction;
 
 import com.warehouse.api.item.Item;
 import com.warehouse.api.product.Product;
+import com.warehouse.api.transaction.dto.TransactionListView;
 import com.warehouse.api.user.User;
 import com.warehouse.api.warehouse.Warehouse;
 import com.warehouse.enums.EntityType;
 import com.warehouse.enums.TransactionType;
 import com.warehouse.enums.TransactionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -55,6 +58,29 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     @Query("SELECT t FROM Transaction t WHERE t.referenceNumber LIKE %:reference%")
     List<Transaction> findByReferenceNumberContaining(@Param("reference") String reference);
     
-    @Query("SELECT t FROM Transaction t ORDER BY t.transactionDate DESC")
-    List<Transaction> findAllOrderByTransactionDateDesc();
+    @EntityGraph(attributePaths = {"item", "product", "warehouse", "sourceWarehouse", "user"})
+    @Query("SELECT t FROM Transaction t ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<Transaction> findLatest(Pageable pageable);
+
+    String LIST_VIEW_SELECT = "SELECT new com.warehouse.api.transaction.dto.TransactionListView(" +
+            "t.transactionId, t.transactionType, t.entityType, i.itemId, i.name, p.productId, p.name, " +
+            "w.warehouseId, w.name, u.userId, u.fullName, t.quantity, t.unitPrice, t.totalPrice, t.status, " +
+            "t.transactionDate, t.referenceNumber, t.notes) FROM Transaction t " +
+            "LEFT JOIN t.item i LEFT JOIN t.product p LEFT JOIN t.warehouse w LEFT JOIN t.user u ";
+
+    @Query(LIST_VIEW_SELECT + "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<TransactionListView> findLatestViews(Pageable pageable);
+
+    // Undated rows sort last in DESC order, so they follow every dated position
+    @Query(LIST_VIEW_SELECT + "WHERE t.transactionDate < :transactionDate " +
+           "OR (t.transactionDate = :transactionDate AND t.transactionId < :transactionId) " +
+           "OR t.transactionDate IS NULL " +
+           "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<TransactionListView> findLatestViewsBefore(@Param("transactionDate") LocalDateTime transactionDate,
+                                                    @Param("transactionId") Long transactionId,
+                                                    Pageable pageable);
+
+    @Query(LIST_VIEW_SELECT + "WHERE t.transactionDate IS NULL AND t.transactionId < :transactionId " +
+           "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<TransactionListView> findUndatedViewsBefore(@Param("transactionId") Long transactionId, Pageable pageable);
 }
\ No newline at end of file
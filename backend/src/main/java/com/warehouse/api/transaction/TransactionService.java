@@ -1,5 +1,9 @@
 package com.warehouse.api.transaction;
 
+import com.warehouse.api.transaction.dto.TransactionBatchLine;
+import com.warehouse.api.transaction.dto.TransactionBatchResult;
+import com.warehouse.api.transaction.dto.TransferRequest;
+import com.warehouse.api.transaction.dto.TransactionPage;
 import com.warehouse.enums.EntityType;
 import com.warehouse.enums.TransactionType;
 import com.warehouse.enums.TransactionStatus;
@@ -10,8 +14,6 @@ import java.util.Optional;
 
 public interface TransactionService {
 
-    List<Transaction> getAllTransactions();
-
     Optional<Transaction> getTransactionById(Long id);
 
     Transaction createTransaction(Transaction transaction);
@@ -40,15 +42,21 @@ public interface TransactionService {
 
     List<Transaction> getRecentTransactions();
 
+    TransactionPage getTransactionPage(String cursor, Integer size);
+
     Transaction createItemInboundTransaction(Long itemId, Long warehouseId, Long userId, 
                                            java.math.BigDecimal quantity, java.math.BigDecimal unitPrice, String notes);
 
     Transaction createProductInboundTransaction(Long productId, Long warehouseId, Long userId, 
                                               java.math.BigDecimal quantity, java.math.BigDecimal unitPrice, String notes);
 
-    Transaction createItemOutboundTransaction(Long itemId, Long warehouseId, Long userId, 
+    Transaction createItemOutboundTransaction(Long itemId, Long warehouseId, Long userId, Long clientId,
                                             java.math.BigDecimal quantity, java.math.BigDecimal unitPrice, String notes);
 
-    Transaction createProductOutboundTransaction(Long productId, Long warehouseId, Long userId, 
+    Transaction createProductOutboundTransaction(Long productId, Long warehouseId, Long userId, Long clientId,
                                                java.math.BigDecimal quantity, java.math.BigDecimal unitPrice, String notes);
+
+    TransactionBatchResult createTransactionBatch(List<TransactionBatchLine> lines);
+
+    Transaction createTransferTransaction(TransferRequest request);
 }
\ No newline at end of file
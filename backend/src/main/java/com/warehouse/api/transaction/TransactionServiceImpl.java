@@ -4,6 +4,14 @@ import com.warehouse.api.item.Item;
 import com.warehouse.api.item.ItemRepository;
 import com.warehouse.api.product.Product;
 import com.warehouse.api.product.ProductRepository;
+import com.warehouse.api.stock.StockMovement;
+import com.warehouse.api.stock.StockMutationService;
+import com.warehouse.api.transaction.dto.TransactionBatchLine;
+import com.warehouse.api.transaction.dto.TransactionBatchLineResult;
+import com.warehouse.api.transaction.dto.TransactionBatchResult;
+import com.warehouse.api.transaction.dto.TransactionListView;
+import com.warehouse.api.transaction.dto.TransactionPage;
+import com.warehouse.api.transaction.dto.TransferRequest;
 import com.warehouse.api.user.User;
 import com.warehouse.api.user.UserRepository;
 import com.warehouse.api.warehouse.Warehouse;
@@ -11,15 +19,26 @@ import com.warehouse.api.warehouse.WarehouseRepository;
 import com.warehouse.enums.EntityType;
 import com.warehouse.enums.TransactionType;
 import com.warehouse.enums.TransactionStatus;
+import com.warehouse.numbering.DocumentNumberService;
+import com.warehouse.numbering.DocumentType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -31,11 +50,16 @@ public class TransactionServiceImpl implements TransactionService {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final WarehouseRepository warehouseRepository;
+    private final StockMutationService stockMutationService;
+    private final TransactionOutboxService transactionOutboxService;
+    private final DocumentNumberService documentNumberService;
 
-    @Override
-    public List<Transaction> getAllTransactions() {
-        return transactionRepository.findAllOrderByTransactionDateDesc();
-    }
+    @Value("${pagination.transactions.default-page-size:50}")
+    private int defaultPageSize;
+    @Value("${pagination.transactions.max-page-size:500}")
+    private int maxPageSize;
+    @Value("${batch.transactions.max-size:1000}")
+    private int maxBatchSize;
 
     @Override
     public Optional<Transaction> getTransactionById(Long id) {
@@ -55,20 +79,25 @@ public class TransactionServiceImpl implements TransactionService {
             transaction.setTotalPrice(totalPrice);
         }
         
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionOutboxService.recorded(savedTransaction);
+        return savedTransaction;
     }
 
     @Override
     public Transaction updateTransaction(Long id, Transaction transactionDetails) {
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Transaction not found"));
+        transactionOutboxService.reversed(transaction);
 
         transaction.setTransactionType(transactionDetails.getTransactionType());
         transaction.setEntityType(transactionDetails.getEntityType());
         transaction.setItem(transactionDetails.getItem());
         transaction.setProduct(transactionDetails.getProduct());
         transaction.setWarehouse(transactionDetails.getWarehouse());
+        transaction.setSourceWarehouse(transactionDetails.getSourceWarehouse());
         transaction.setUser(transactionDetails.getUser());
+        transaction.setClientId(transactionDetails.getClientId());
         transaction.setQuantity(transactionDetails.getQuantity());
         transaction.setUnitPrice(transactionDetails.getUnitPrice());
         transaction.setStatus(transactionDetails.getStatus());
@@ -81,7 +110,9 @@ public class TransactionServiceImpl implements TransactionService {
             transaction.setTotalPrice(totalPrice);
         }
 
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionOutboxService.recorded(savedTransaction);
+        return savedTransaction;
     }
 
     @Override
@@ -89,6 +120,7 @@ public class TransactionServiceImpl implements TransactionService {
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Transaction not found"));
         transactionRepository.delete(transaction);
+        transactionOutboxService.reversed(transaction);
     }
 
     @Override
@@ -137,8 +169,37 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Transaction> getRecentTransactions() {
-        return transactionRepository.findAllOrderByTransactionDateDesc();
+        return transactionRepository.findLatest(PageRequest.of(0, defaultPageSize));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPage getTransactionPage(String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+
+        // Fetch one extra row to find out whether another page exists
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<TransactionListView> transactions;
+        if (cursor == null || cursor.isEmpty()) {
+            transactions = transactionRepository.findLatestViews(pageRequest);
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            transactions = position.transactionDate() == null
+                    ? transactionRepository.findUndatedViewsBefore(position.transactionId(), pageRequest)
+                    : transactionRepository.findLatestViewsBefore(
+                            position.transactionDate(), position.transactionId(), pageRequest);
+        }
+
+        String nextCursor = null;
+        if (transactions.size() > pageSize) {
+            transactions = new ArrayList<>(transactions.subList(0, pageSize));
+            TransactionListView last = transactions.get(pageSize - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDate(), last.getTransactionId()).encode();
+        }
+
+        return new TransactionPage(transactions, nextCursor, pageSize);
     }
 
     @Override
@@ -166,11 +227,11 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setReferenceNumber(generateReferenceNumber());
 
         // Update item quantity
-        BigDecimal currentQuantity = item.getQuantity() != null ? item.getQuantity() : BigDecimal.ZERO;
-        item.setQuantity(currentQuantity.add(quantity));
-        itemRepository.save(item);
+        stockMutationService.increaseItem(item, warehouse, quantity);
 
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionOutboxService.recorded(savedTransaction);
+        return savedTransaction;
     }
 
     @Override
@@ -198,15 +259,15 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setReferenceNumber(generateReferenceNumber());
 
         // Update product quantity
-        BigDecimal currentQuantity = product.getQuantity() != null ? product.getQuantity() : BigDecimal.ZERO;
-        product.setQuantity(currentQuantity.add(quantity));
-        productRepository.save(product);
+        stockMutationService.increaseProduct(product, warehouse, quantity);
 
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionOutboxService.recorded(savedTransaction);
+        return savedTransaction;
     }
 
     @Override
-    public Transaction createItemOutboundTransaction(Long itemId, Long warehouseId, Long userId, 
+    public Transaction createItemOutboundTransaction(Long itemId, Long warehouseId, Long userId, Long clientId,
                                                     BigDecimal quantity, BigDecimal unitPrice, String notes) {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Item not found"));
@@ -215,11 +276,8 @@ public class TransactionServiceImpl implements TransactionService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        // Check if enough quantity is available
-        BigDecimal currentQuantity = item.getQuantity() != null ? item.getQuantity() : BigDecimal.ZERO;
-        if (currentQuantity.compareTo(quantity) < 0) {
-            throw new RuntimeException("Insufficient quantity available");
-        }
+        // Take the quantity first; fails when not enough is available
+        stockMutationService.decreaseItem(item, warehouse, quantity);
 
         Transaction transaction = new Transaction();
         transaction.setTransactionType(TransactionType.OUTBOUND);
@@ -227,6 +285,7 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setItem(item);
         transaction.setWarehouse(warehouse);
         transaction.setUser(user);
+        transaction.setClientId(clientId);
         transaction.setQuantity(quantity);
         transaction.setUnitPrice(unitPrice);
         transaction.setTotalPrice(unitPrice.multiply(quantity));
@@ -235,15 +294,13 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setTransactionDate(LocalDateTime.now());
         transaction.setReferenceNumber(generateReferenceNumber());
 
-        // Update item quantity
-        item.setQuantity(currentQuantity.subtract(quantity));
-        itemRepository.save(item);
-
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionOutboxService.recorded(savedTransaction);
+        return savedTransaction;
     }
 
     @Override
-    public Transaction createProductOutboundTransaction(Long productId, Long warehouseId, Long userId, 
+    public Transaction createProductOutboundTransaction(Long productId, Long warehouseId, Long userId, Long clientId,
                                                        BigDecimal quantity, BigDecimal unitPrice, String notes) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
@@ -252,11 +309,8 @@ public class TransactionServiceImpl implements TransactionService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        // Check if enough quantity is available
-        BigDecimal currentQuantity = product.getQuantity() != null ? product.getQuantity() : BigDecimal.ZERO;
-        if (currentQuantity.compareTo(quantity) < 0) {
-            throw new RuntimeException("Insufficient quantity available");
-        }
+        // Take the quantity first; fails when not enough is available
+        stockMutationService.decreaseProduct(product, warehouse, quantity);
 
         Transaction transaction = new Transaction();
         transaction.setTransactionType(TransactionType.OUTBOUND);
@@ -264,6 +318,7 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setProduct(product);
         transaction.setWarehouse(warehouse);
         transaction.setUser(user);
+        transaction.setClientId(clientId);
         transaction.setQuantity(quantity);
         transaction.setUnitPrice(unitPrice);
         transaction.setTotalPrice(unitPrice.multiply(quantity));
@@ -272,14 +327,220 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setTransactionDate(LocalDateTime.now());
         transaction.setReferenceNumber(generateReferenceNumber());
 
-        // Update product quantity
-        product.setQuantity(currentQuantity.subtract(quantity));
-        productRepository.save(product);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionOutboxService.recorded(savedTransaction);
+        return savedTransaction;
+    }
+
+    @Override
+    public TransactionBatchResult createTransactionBatch(List<TransactionBatchLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new RuntimeException("Batch must contain at least one movement");
+        }
+        if (lines.size() > maxBatchSize) {
+            throw new RuntimeException("Batch cannot contain more than " + maxBatchSize + " movements");
+        }
+
+        // One IN query per referenced table instead of three lookups per line
+        Map<Long, Item> items = itemRepository.findAllById(collectIds(lines, TransactionBatchLine::getItemId))
+                .stream().collect(Collectors.toMap(Item::getItemId, Function.identity()));
+        Map<Long, Product> products = productRepository.findAllById(collectIds(lines, TransactionBatchLine::getProductId))
+                .stream().collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        Map<Long, Warehouse> warehouses = warehouseRepository.findAllById(collectIds(lines, TransactionBatchLine::getWarehouseId))
+                .stream().collect(Collectors.toMap(Warehouse::getWarehouseId, Function.identity()));
+        Map<Long, User> users = userRepository.findAllById(collectIds(lines, TransactionBatchLine::getUserId))
+                .stream().collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+        TransactionBatchResult result = new TransactionBatchResult();
+        result.setTotal(lines.size());
+        LocalDateTime transactionDate = LocalDateTime.now();
+        Transaction[] built = new Transaction[lines.size()];
+        List<StockMovement> movements = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            TransactionBatchLineResult lineResult = new TransactionBatchLineResult(i, false, null, null);
+            result.getLines().add(lineResult);
+            try {
+                Transaction transaction = buildBatchTransaction(lines.get(i), items, products, warehouses, users);
+                transaction.setTransactionDate(transactionDate);
+                built[i] = transaction;
+                movements.add(batchMovement(transaction));
+            } catch (RuntimeException e) {
+                lineResult.setMessage(e.getMessage());
+            }
+        }
+
+        // Lines are merged per entity and warehouse and applied set-based; only the lines of an entity whose
+        // merged movement was refused are retried one by one, in lock order, to find out which of them fit
+        Set<StockMovement.Entity> refused = stockMutationService.tryApplyAll(movements);
+        List<Integer> retried = new ArrayList<>();
+        for (int i = 0; i < built.length; i++) {
+            if (built[i] != null && refused.contains(batchMovement(built[i]).entity())) {
+                retried.add(i);
+            }
+        }
+        retried.sort(Comparator.comparing((Integer i) -> batchMovement(built[i]), StockMovement.LOCK_ORDER));
+        for (int i : retried) {
+            try {
+                applyBatchMovement(built[i]);
+            } catch (RuntimeException e) {
+                result.getLines().get(i).setMessage(e.getMessage());
+                built[i] = null;
+            }
+        }
+
+        List<Transaction> transactions = new ArrayList<>();
+        List<TransactionBatchLineResult> acceptedLines = new ArrayList<>();
+        for (int i = 0; i < built.length; i++) {
+            if (built[i] != null) {
+                transactions.add(built[i]);
+                acceptedLines.add(result.getLines().get(i));
+                result.getLines().get(i).setSuccess(true);
+            }
+        }
+
+        // Sequence-generated ids let Hibernate send these as JDBC batch inserts at flush
+        List<Transaction> savedTransactions = transactionRepository.saveAll(transactions);
+        transactionOutboxService.recordedAll(savedTransactions);
+        for (int i = 0; i < savedTransactions.size(); i++) {
+            acceptedLines.get(i).setTransactionId(savedTransactions.get(i).getTransactionId());
+        }
+
+        result.setSucceeded(savedTransactions.size());
+        result.setFailed(lines.size() - savedTransactions.size());
+        return result;
+    }
+
+    @Override
+    public Transaction createTransferTransaction(TransferRequest request) {
+        EntityType entityType = request.getEntityType() != null ? request.getEntityType() : EntityType.ITEMS;
+        Warehouse source = Optional.ofNullable(request.getSourceWarehouseId()).flatMap(warehouseRepository::findById)
+                .orElseThrow(() -> new RuntimeException("Source warehouse not found"));
+        Warehouse target = Optional.ofNullable(request.getTargetWarehouseId()).flatMap(warehouseRepository::findById)
+                .orElseThrow(() -> new RuntimeException("Target warehouse not found"));
+        User user = Optional.ofNullable(request.getUserId()).flatMap(userRepository::findById)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        Transaction transaction = new Transaction();
+        transaction.setTransactionType(TransactionType.TRANSFER);
+        transaction.setEntityType(entityType);
+        Long entityId;
+        BigDecimal unitPrice;
+        if (entityType == EntityType.ITEMS) {
+            Item item = Optional.ofNullable(request.getItemId()).flatMap(itemRepository::findById)
+                    .orElseThrow(() -> new RuntimeException("Item not found"));
+            transaction.setItem(item);
+            entityId = item.getItemId();
+            unitPrice = item.getPrice();
+        } else {
+            Product product = Optional.ofNullable(request.getProductId()).flatMap(productRepository::findById)
+                    .orElseThrow(() -> new RuntimeException("Product not found"));
+            transaction.setProduct(product);
+            entityId = product.getProductId();
+            unitPrice = product.getSalePrice();
+        }
+
+        // Both legs move in this transaction; the total quantity on the item or product does not change
+        unitPrice = unitPrice != null ? unitPrice : BigDecimal.ZERO;
+        stockMutationService.transfer(entityType, entityId, unitPrice, source, target, request.getQuantity());
+
+        transaction.setSourceWarehouse(source);
+        transaction.setWarehouse(target);
+        transaction.setUser(user);
+        transaction.setQuantity(request.getQuantity());
+        transaction.setUnitPrice(unitPrice);
+        transaction.setTotalPrice(unitPrice.multiply(request.getQuantity()));
+        transaction.setStatus(TransactionStatus.COMPLETED);
+        transaction.setNotes(request.getNotes());
+        transaction.setTransactionDate(LocalDateTime.now());
+        transaction.setReferenceNumber(generateReferenceNumber());
+
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionOutboxService.recorded(savedTransaction);
+        return savedTransaction;
+    }
+
+    private Transaction buildBatchTransaction(TransactionBatchLine line, Map<Long, Item> items,
+                                              Map<Long, Product> products, Map<Long, Warehouse> warehouses,
+                                              Map<Long, User> users) {
+        if (line.getTransactionType() != TransactionType.INBOUND && line.getTransactionType() != TransactionType.OUTBOUND) {
+            throw new RuntimeException("Only INBOUND and OUTBOUND movements can be batched");
+        }
+        if (line.getQuantity() == null || line.getQuantity().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new RuntimeException("Quantity must be greater than zero");
+        }
+
+        Transaction transaction = new Transaction();
+        transaction.setTransactionType(line.getTransactionType());
+        transaction.setEntityType(line.getEntityType() != null ? line.getEntityType() : EntityType.ITEMS);
+        if (transaction.getEntityType() == EntityType.ITEMS) {
+            Item item = line.getItemId() != null ? items.get(line.getItemId()) : null;
+            if (item == null) {
+                throw new RuntimeException("Item not found");
+            }
+            transaction.setItem(item);
+        } else {
+            Product product = line.getProductId() != null ? products.get(line.getProductId()) : null;
+            if (product == null) {
+                throw new RuntimeException("Product not found");
+            }
+            transaction.setProduct(product);
+        }
+        Warehouse warehouse = line.getWarehouseId() != null ? warehouses.get(line.getWarehouseId()) : null;
+        if (warehouse == null) {
+            throw new RuntimeException("Warehouse not found");
+        }
+        User user = line.getUserId() != null ? users.get(line.getUserId()) : null;
+        if (user == null) {
+            throw new RuntimeException("User not found");
+        }
+
+        BigDecimal unitPrice = line.getUnitPrice() != null ? line.getUnitPrice() : BigDecimal.ZERO;
+        transaction.setWarehouse(warehouse);
+        transaction.setUser(user);
+        if (line.getTransactionType() == TransactionType.OUTBOUND) {
+            transaction.setClientId(line.getClientId());
+        }
+        transaction.setQuantity(line.getQuantity());
+        transaction.setUnitPrice(unitPrice);
+        transaction.setTotalPrice(unitPrice.multiply(line.getQuantity()));
+        transaction.setStatus(TransactionStatus.COMPLETED);
+        transaction.setNotes(line.getNotes());
+        transaction.setReferenceNumber(generateReferenceNumber());
+        return transaction;
+    }
+
+    private StockMovement batchMovement(Transaction transaction) {
+        BigDecimal delta = transaction.getTransactionType() == TransactionType.OUTBOUND
+                ? transaction.getQuantity().negate()
+                : transaction.getQuantity();
+        return transaction.getEntityType() == EntityType.ITEMS
+                ? new StockMovement(EntityType.ITEMS, transaction.getItem().getItemId(),
+                        transaction.getWarehouse().getWarehouseId(), transaction.getItem().getPrice(), delta)
+                : new StockMovement(EntityType.PRODUCTS, transaction.getProduct().getProductId(),
+                        transaction.getWarehouse().getWarehouseId(), transaction.getProduct().getSalePrice(), delta);
+    }
+
+    // Uses the non-throwing variants so one short line does not mark the whole batch for rollback
+    private void applyBatchMovement(Transaction transaction) {
+        BigDecimal delta = transaction.getTransactionType() == TransactionType.OUTBOUND
+                ? transaction.getQuantity().negate()
+                : transaction.getQuantity();
+        boolean applied = transaction.getEntityType() == EntityType.ITEMS
+                ? stockMutationService.tryChangeItem(transaction.getItem(), transaction.getWarehouse(), delta)
+                : stockMutationService.tryChangeProduct(transaction.getProduct(), transaction.getWarehouse(), delta);
+        if (!applied) {
+            throw new RuntimeException("Insufficient quantity available");
+        }
+    }
 
-        return transactionRepository.save(transaction);
+    private Set<Long> collectIds(List<TransactionBatchLine> lines, Function<TransactionBatchLine, Long> idGetter) {
+        return lines.stream()
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
     }
 
     private String generateReferenceNumber() {
-        return "TXN-" + System.currentTimeMillis();
+        return documentNumberService.next(DocumentType.TRANSACTION);
     }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.warehouse.api.transaction;
+
+import com.warehouse.api.transaction.dto.TransactionStats;
+import com.warehouse.api.transaction.dto.TransactionStatsBucket;
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.StatsGranularity;
+import com.warehouse.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains daily movement buckets per (transaction type, entity type, warehouse) and rolls them up
+ * to days, weeks or months for the transaction charts. Buckets are fed from the transaction outbox by
+ * {@link TransactionProjectionWorker}; the roll-up is grouped in SQL, so a chart reads one row per
+ * period and type however many daily buckets the range covers.
+ * <p>
+ * A rebuild recomputes the buckets from the ledger less the events still in the outbox, all in one
+ * transaction, so the worker applying those events afterwards counts each posting once. The buckets are
+ * deleted before the ledger is read: a worker batch that has not committed by then waits on the deleted
+ * rows, and its events are still in the outbox as the rebuild reads it.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class TransactionStatsService {
+
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+    private static final String INSERT_BUCKET = "INSERT INTO transaction_movement_stat " +
+            "(bucket_date, transaction_type, entity_type, warehouse_id, transaction_count, total_quantity, total_price) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final TransactionMovementStatRepository movementStatRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Folds a batch of outbox events into one upsert per bucket instead of one per posting
+    void applyEvents(List<TransactionEvent> events) {
+        Map<BucketKey, BucketDelta> deltas = new LinkedHashMap<>();
+        for (TransactionEvent event : events) {
+            BucketKey key = BucketKey.of(event);
+            if (key != null) {
+                deltas.computeIfAbsent(key, k -> new BucketDelta()).add(event);
+            }
+        }
+        deltas.forEach((key, delta) -> movementStatRepository.applyDelta(
+                key.bucketDate(), key.transactionType().name(), key.entityType().name(), key.warehouseId(),
+                delta.count, delta.quantity, delta.totalPrice));
+    }
+
+    // Rebuilding an empty table on an empty ledger inserts nothing, so only the buckets are checked
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (movementStatRepository.findFirstByOrderByStatIdAsc().isEmpty()) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        movementStatRepository.deleteAllInBatch();
+        jdbcTemplate.batchUpdate(INSERT_BUCKET, movementStatRepository.bucketsFromLedger());
+    }
+
+    @Transactional(readOnly = true)
+    public TransactionStats getStats(StatsGranularity granularity, LocalDate startDate, LocalDate endDate,
+                                     Long warehouseId) {
+        LocalDate from = startDate != null ? startDate : EARLIEST_DATE;
+        LocalDate to = endDate != null ? endDate : LATEST_DATE;
+        List<Object[]> rows = warehouseId != null
+                ? movementStatRepository.rollUpByWarehouse(granularity.name(), warehouseId, from, to)
+                : movementStatRepository.rollUp(granularity.name(), from, to);
+
+        // Rows arrive ordered by period, so the buckets keep chart order
+        TransactionStats stats = new TransactionStats();
+        Map<LocalDate, TransactionStatsBucket> buckets = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            LocalDate period = row[0] instanceof Date date ? date.toLocalDate() : (LocalDate) row[0];
+            TransactionStatsBucket bucket = buckets.computeIfAbsent(period, TransactionStatsBucket::new);
+            long count = ((Number) row[2]).longValue();
+            BigDecimal totalPrice = row[3] != null ? new BigDecimal(row[3].toString()) : BigDecimal.ZERO;
+
+            switch (TransactionType.valueOf((String) row[1])) {
+                case INBOUND -> {
+                    bucket.setInbound(bucket.getInbound() + count);
+                    stats.setInboundCount(stats.getInboundCount() + count);
+                }
+                case OUTBOUND -> {
+                    bucket.setOutbound(bucket.getOutbound() + count);
+                    stats.setOutboundCount(stats.getOutboundCount() + count);
+                }
+                case PRODUCTION -> {
+                    bucket.setProduction(bucket.getProduction() + count);
+                    stats.setProductionCount(stats.getProductionCount() + count);
+                }
+                case TRANSFER -> {
+                    bucket.setTransfer(bucket.getTransfer() + count);
+                    stats.setTransferCount(stats.getTransferCount() + count);
+                }
+                case ADJUSTMENT -> {
+                    bucket.setAdjustment(bucket.getAdjustment() + count);
+                    stats.setAdjustmentCount(stats.getAdjustmentCount() + count);
+                }
+            }
+            bucket.setTotalValue(bucket.getTotalValue().add(totalPrice));
+            stats.setTotalValue(stats.getTotalValue().add(totalPrice));
+        }
+
+        stats.getBuckets().addAll(buckets.values());
+        return stats;
+    }
+
+    private record BucketKey(LocalDate bucketDate, TransactionType transactionType, EntityType entityType,
+                             Long warehouseId) {
+
+        static BucketKey of(TransactionEvent event) {
+            if (event.transactionDate() == null
+                    || event.transactionType() == null
+                    || event.entityType() == null) {
+                return null;
+            }
+            Long warehouseId = event.warehouseId() != null
+                    ? event.warehouseId()
+                    : TransactionMovementStat.NO_WAREHOUSE;
+            return new BucketKey(event.transactionDate().toLocalDate(), event.transactionType(),
+                    event.entityType(), warehouseId);
+        }
+    }
+
+    private static class BucketDelta {
+        private long count;
+        private BigDecimal quantity = BigDecimal.ZERO;
+        private BigDecimal totalPrice = BigDecimal.ZERO;
+
+        void add(TransactionEvent event) {
+            count += event.sign();
+            quantity = quantity.add(event.signedQuantity());
+            totalPrice = totalPrice.add(event.signedTotalPrice());
+        }
+    }
+}
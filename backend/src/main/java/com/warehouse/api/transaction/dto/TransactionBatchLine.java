@@ -0,0 +1,26 @@
+package com.warehouse.api.transaction.dto;
+
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchLine {
+
+    private TransactionType transactionType;
+    private EntityType entityType = EntityType.ITEMS;
+    private Long itemId;
+    private Long productId;
+    private Long warehouseId;
+    private Long userId;
+    private Long clientId;
+    private BigDecimal quantity;
+    private BigDecimal unitPrice;
+    private String notes;
+}
@@ -0,0 +1,16 @@
+package com.warehouse.api.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchLineResult {
+
+    private int index;
+    private boolean success;
+    private Long transactionId;
+    private String message;
+}
@@ -0,0 +1,19 @@
+package com.warehouse.api.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchResult {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<TransactionBatchLineResult> lines = new ArrayList<>();
+}
@@ -0,0 +1,37 @@
+package com.warehouse.api.transaction.dto;
+
+import com.warehouse.enums.EntityType;
+import com.warehouse.enums.TransactionStatus;
+import com.warehouse.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Flat ledger row with ids and display names only; built directly by a JPQL constructor expression
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionListView {
+
+    private Long transactionId;
+    private TransactionType transactionType;
+    private EntityType entityType;
+    private Long itemId;
+    private String itemName;
+    private Long productId;
+    private String productName;
+    private Long warehouseId;
+    private String warehouseName;
+    private Long userId;
+    private String userFullName;
+    private BigDecimal quantity;
+    private BigDecimal unitPrice;
+    private BigDecimal totalPrice;
+    private TransactionStatus status;
+    private LocalDateTime transactionDate;
+    private String referenceNumber;
+    private String notes;
+}
@@ -0,0 +1,17 @@
+package com.warehouse.api.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPage {
+
+    private List<TransactionListView> content;
+    private String nextCursor;
+    private int size;
+}
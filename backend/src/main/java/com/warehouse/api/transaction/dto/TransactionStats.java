@@ -0,0 +1,21 @@
+package com.warehouse.api.transaction.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class TransactionStats {
+
+    private long inboundCount;
+    private long outboundCount;
+    private long productionCount;
+    private long transferCount;
+    private long adjustmentCount;
+    private BigDecimal totalValue = BigDecimal.ZERO;
+    private List<TransactionStatsBucket> buckets = new ArrayList<>();
+}
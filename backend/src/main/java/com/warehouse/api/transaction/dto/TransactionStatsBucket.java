@@ -0,0 +1,24 @@
+package com.warehouse.api.transaction.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+public class TransactionStatsBucket {
+
+    private LocalDate period;
+    private long inbound;
+    private long outbound;
+    private long production;
+    private long transfer;
+    private long adjustment;
+    private BigDecimal totalValue = BigDecimal.ZERO;
+
+    public TransactionStatsBucket(LocalDate period) {
+        this.period = period;
+    }
+}
@@ -0,0 +1,23 @@
+package com.warehouse.api.transaction.dto;
+
+import com.warehouse.enums.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferRequest {
+
+    private EntityType entityType = EntityType.ITEMS;
+    private Long itemId;
+    private Long productId;
+    private Long sourceWarehouseId;
+    private Long targetWarehouseId;
+    private Long userId;
+    private BigDecimal quantity;
+    private String notes;
+}
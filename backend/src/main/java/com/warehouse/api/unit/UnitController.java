@@ -1,5 +1,6 @@
 package com.warehouse.api.unit;
 
+import com.warehouse.api.unit.dto.UnitView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,13 +19,13 @@ public class UnitController {
     private final UnitService unitService;
 
     @GetMapping
-    public ResponseEntity<List<Unit>> getAllUnits() {
+    public ResponseEntity<List<UnitView>> getAllUnits() {
         return ResponseEntity.ok(unitService.getAllUnits());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Unit> getUnitById(@PathVariable Long id) {
-        Unit unit = unitService.getUnitById(id)
+    public ResponseEntity<UnitView> getUnitById(@PathVariable Long id) {
+        UnitView unit = unitService.getUnitById(id)
                 .orElseThrow(() -> new RuntimeException("Unit not found"));
         return ResponseEntity.ok(unit);
     }
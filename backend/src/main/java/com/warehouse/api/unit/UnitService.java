@@ -1,12 +1,14 @@
 package com.warehouse.api.unit;
 
+import com.warehouse.api.unit.dto.UnitView;
+
 import java.util.List;
 import java.util.Optional;
 
 public interface UnitService {
-    public List<Unit> getAllUnits();
+    public List<UnitView> getAllUnits();
 
-    public Optional<Unit> getUnitById(Long id);
+    public Optional<UnitView> getUnitById(Long id);
 
     public Optional<Unit> getUnitByName(String name);
     public Unit createUnit(Unit unit);
@@ -1,7 +1,10 @@
 package com.warehouse.api.unit;
 
+import com.warehouse.api.unit.dto.UnitView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,13 +20,15 @@ public class UnitServiceImpl implements UnitService{
     private final UnitRepository unitRepository;
 
     @Override
-    public List<Unit> getAllUnits() {
-        return unitRepository.findAll();
+    @Cacheable(cacheNames = "units", key = "'all'")
+    public List<UnitView> getAllUnits() {
+        return unitRepository.findAll().stream().map(UnitView::of).toList();
     }
 
     @Override
-    public Optional<Unit> getUnitById(Long id) {
-        return unitRepository.findById(id);
+    @Cacheable(cacheNames = "units", key = "#id")
+    public Optional<UnitView> getUnitById(Long id) {
+        return unitRepository.findById(id).map(UnitView::of);
     }
 
     @Override
@@ -32,6 +37,7 @@ public class UnitServiceImpl implements UnitService{
     }
 
     @Override
+    @CacheEvict(cacheNames = "units", allEntries = true)
     public Unit createUnit(Unit unit) {
         if (unitRepository.existsByName(unit.getName())) {
             throw new RuntimeException("Unit already exists");
@@ -40,6 +46,7 @@ public class UnitServiceImpl implements UnitService{
     }
 
     @Override
+    @CacheEvict(cacheNames = "units", allEntries = true)
     public Unit updateUnit(Long id, Unit unitDetails) {
         Unit unit = unitRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Unit not found"));
@@ -49,6 +56,7 @@ public class UnitServiceImpl implements UnitService{
     }
 
     @Override
+    @CacheEvict(cacheNames = "units", allEntries = true)
     public void deleteUnit(Long id) {
         Unit unit = unitRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Unit not found"));
@@ -56,6 +64,7 @@ public class UnitServiceImpl implements UnitService{
     }
 
     @Override
+    @CacheEvict(cacheNames = "units", allEntries = true)
     public void deleteUnitByName(String name) {
         if (!unitRepository.existsByName(name)) {
             throw new RuntimeException("Unit not found");
@@ -0,0 +1,15 @@
+package com.warehouse.api.unit.dto;
+
+import com.warehouse.api.unit.Unit;
+
+import java.time.LocalDateTime;
+
+// Immutable copy of a unit, safe to share from the cache; serializes like the entity
+public record UnitView(Long unitId, String name, String createdBy, LocalDateTime createdAt,
+                       String modifiedBy, LocalDateTime modifiedAt) {
+
+    public static UnitView of(Unit unit) {
+        return new UnitView(unit.getUnitId(), unit.getName(), unit.getCreatedBy(), unit.getCreatedAt(),
+                unit.getModifiedBy(), unit.getModifiedAt());
+    }
+}
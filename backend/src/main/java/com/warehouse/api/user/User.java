@@ -1,5 +1,6 @@
 package com.warehouse.api.user;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.warehouse.auditing.Auditable;
 import com.warehouse.enums.UserRole;
 import com.warehouse.enums.UserState;
@@ -38,6 +39,7 @@ public class User extends Auditable {
 
     @NotBlank
     @Size(min = 6, max = 100)
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
     @Size(max = 20)
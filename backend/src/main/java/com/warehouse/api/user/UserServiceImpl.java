@@ -2,6 +2,7 @@ package com.warehouse.api.user;
 
 import com.warehouse.enums.UserRole;
 import com.warehouse.enums.UserState;
+import com.warehouse.security.JwtPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +22,7 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JwtPrincipalCache principalCache;
 
     public List<User> getAllUsers() {
         return userRepository.findAll();
@@ -78,6 +80,7 @@ public class UserServiceImpl implements UserService {
         user.setMemo(userDetails.getMemo());
 
         User updatedUser = userRepository.save(user);
+        principalCache.evictUser(updatedUser.getUsername());
         logger.info("User updated successfully: {}", updatedUser.getUsername());
         
         return updatedUser;
@@ -93,6 +96,7 @@ public class UserServiceImpl implements UserService {
                 });
                 
         userRepository.delete(user);
+        principalCache.evictUser(user.getUsername());
         logger.info("User deleted successfully: {}", user.getUsername());
     }
 
@@ -107,6 +111,7 @@ public class UserServiceImpl implements UserService {
         
         user.setState(isActive ? UserState.ACTIVE : UserState.INACTIVE);
         User updatedUser = userRepository.save(user);
+        principalCache.evictUser(updatedUser.getUsername());
         logger.info("User status updated successfully: {}", updatedUser.getUsername());
         
         return updatedUser;
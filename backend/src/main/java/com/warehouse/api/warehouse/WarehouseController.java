@@ -1,5 +1,6 @@
 package com.warehouse.api.warehouse;
 
+import com.warehouse.api.warehouse.dto.WarehouseView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,13 +22,13 @@ public class WarehouseController {
     private final WarehouseService warehouseService;
 
     @GetMapping
-    public ResponseEntity<List<Warehouse>> getAllWarehouses() {
+    public ResponseEntity<List<WarehouseView>> getAllWarehouses() {
         return ResponseEntity.ok(warehouseService.getAllWarehouses());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Warehouse> getWarehouseById(@PathVariable Long id) {
-        Warehouse warehouse = warehouseService.getWarehouseById(id)
+    public ResponseEntity<WarehouseView> getWarehouseById(@PathVariable Long id) {
+        WarehouseView warehouse = warehouseService.getWarehouseById(id)
                 .orElseThrow(() -> new RuntimeException("Warehouse not found"));
         return ResponseEntity.ok(warehouse);
     }
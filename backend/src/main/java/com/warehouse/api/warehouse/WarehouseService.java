@@ -1,13 +1,15 @@
 package com.warehouse.api.warehouse;
 
+import com.warehouse.api.warehouse.dto.WarehouseView;
+
 import java.util.List;
 import java.util.Optional;
 
 public interface WarehouseService {
 
-    public List<Warehouse> getAllWarehouses();
+    public List<WarehouseView> getAllWarehouses();
 
-    public Optional<Warehouse> getWarehouseById(Long id);
+    public Optional<WarehouseView> getWarehouseById(Long id);
 
     public Optional<Warehouse> getWarehouseByName(String name);
 
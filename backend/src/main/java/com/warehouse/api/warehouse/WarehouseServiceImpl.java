@@ -1,6 +1,10 @@
 package com.warehouse.api.warehouse;
 
+import com.warehouse.api.warehouse.dto.WarehouseView;
+import com.warehouse.api.dashboard.WarehouseStockSummaryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,15 +18,18 @@ public class WarehouseServiceImpl implements WarehouseService {
 
 
     private final WarehouseRepository warehouseRepository;
+    private final WarehouseStockSummaryService stockSummaryService;
 
     @Override
-    public List<Warehouse> getAllWarehouses() {
-        return warehouseRepository.findAll();
+    @Cacheable(cacheNames = "warehouses", key = "'all'")
+    public List<WarehouseView> getAllWarehouses() {
+        return warehouseRepository.findAll().stream().map(WarehouseView::of).toList();
     }
 
     @Override
-    public Optional<Warehouse> getWarehouseById(Long id) {
-        return warehouseRepository.findById(id);
+    @Cacheable(cacheNames = "warehouses", key = "#id")
+    public Optional<WarehouseView> getWarehouseById(Long id) {
+        return warehouseRepository.findById(id).map(WarehouseView::of);
     }
 
     @Override
@@ -31,11 +38,13 @@ public class WarehouseServiceImpl implements WarehouseService {
     }
 
     @Override
+    @CacheEvict(cacheNames = "warehouses", allEntries = true)
     public Warehouse createWarehouse(Warehouse warehouse) {
         return warehouseRepository.save(warehouse);
     }
 
     @Override
+    @CacheEvict(cacheNames = "warehouses", allEntries = true)
     public Warehouse updateWarehouse(Long id, Warehouse warehouseDetails) {
         Warehouse warehouse = warehouseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Warehouse not found"));
@@ -49,10 +58,12 @@ public class WarehouseServiceImpl implements WarehouseService {
     }
 
     @Override
+    @CacheEvict(cacheNames = "warehouses", allEntries = true)
     public void deleteWarehouse(Long id) {
         Warehouse warehouse = warehouseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Warehouse not found"));
         warehouseRepository.delete(warehouse);
+        stockSummaryService.warehouseRemoved(id);
     }
 
     @Override
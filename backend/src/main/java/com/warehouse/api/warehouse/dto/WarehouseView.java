@@ -0,0 +1,16 @@
+package com.warehouse.api.warehouse.dto;
+
+import com.warehouse.api.warehouse.Warehouse;
+
+import java.time.LocalDateTime;
+
+// Immutable copy of a warehouse, safe to share from the cache; serializes like the entity
+public record WarehouseView(Long warehouseId, String name, String location, String manager, String description,
+                            String createdBy, LocalDateTime createdAt, String modifiedBy, LocalDateTime modifiedAt) {
+
+    public static WarehouseView of(Warehouse warehouse) {
+        return new WarehouseView(warehouse.getWarehouseId(), warehouse.getName(), warehouse.getLocation(),
+                warehouse.getManager(), warehouse.getDescription(), warehouse.getCreatedBy(),
+                warehouse.getCreatedAt(), warehouse.getModifiedBy(), warehouse.getModifiedAt());
+    }
+}
@@ -0,0 +1,83 @@
+package com.warehouse.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of requests working at once to what the JDBC pool can serve. With virtual threads Tomcat
+ * no longer limits concurrency itself, so without this every request would queue inside Hikari and time out
+ * there instead of being turned away early with a 503. It is therefore only on when virtual threads are.
+ * <p>
+ * The permits are the pool size less {@code bulkhead.reserved-connections}, the connections held by work that
+ * does not come through here. Paths that never wait on the pool (the in-memory search index, the live feed
+ * subscription) are let through.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class DatabaseBulkheadFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final boolean enabled;
+    private final List<String> excludedPaths;
+
+    public DatabaseBulkheadFilter(
+            @Value("${bulkhead.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${bulkhead.reserved-connections:0}") int reservedConnections,
+            @Value("${bulkhead.acquire-timeout:PT2S}") Duration acquireTimeout,
+            @Value("${bulkhead.excluded-paths:/actuator}") List<String> excludedPaths) {
+        this.enabled = enabled;
+        this.permits = new Semaphore(Math.max(1, poolSize - reservedConnections), true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        this.excludedPaths = excludedPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!enabled || "OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return excludedPaths.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is busy, please retry");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.warehouse.enums;
+
+public enum SearchEntityType {
+    ITEM,
+    PRODUCT,
+    CLIENT,
+    ORDER,
+    MATERIAL_RECEIPT
+}
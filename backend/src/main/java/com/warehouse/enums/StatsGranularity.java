@@ -0,0 +1,7 @@
+package com.warehouse.enums;
+
+public enum StatsGranularity {
+    DAY,
+    WEEK,
+    MONTH
+}
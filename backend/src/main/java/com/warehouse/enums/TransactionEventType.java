@@ -0,0 +1,6 @@
+package com.warehouse.enums;
+
+public enum TransactionEventType {
+    RECORDED,
+    REVERSED
+}
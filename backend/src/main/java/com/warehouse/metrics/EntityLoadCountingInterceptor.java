@@ -0,0 +1,17 @@
+package com.warehouse.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+// Counts entity instances hydrated for the current request, including eager associations
+public class EntityLoadCountingInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.entitiesLoaded++;
+        }
+        return false;
+    }
+}
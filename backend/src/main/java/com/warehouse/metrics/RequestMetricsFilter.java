@@ -0,0 +1,92 @@
+package com.warehouse.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records, per endpoint, how many SQL statements and entity loads a request caused and how long it spent
+ * in JDBC. Requests above {@code metrics.sql.flag-threshold} statements are logged, counted and listed
+ * under {@code /actuator/sqlhotspots}; that is where N+1 loading shows up.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final SqlHotspotEndpoint hotspotEndpoint;
+    private final long flagThreshold;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                SqlHotspotEndpoint hotspotEndpoint,
+                                @Value("${metrics.sql.flag-threshold:25}") long flagThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.hotspotEndpoint = hotspotEndpoint;
+        this.flagThreshold = flagThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestSqlStats stats = RequestSqlStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestSqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        summary("warehouse.request.sql.statements", tags).record(stats.getStatements());
+        summary("warehouse.request.entities.loaded", tags).record(stats.getEntitiesLoaded());
+        meterRegistry.timer("warehouse.request.jdbc.time", tags).record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > flagThreshold) {
+            meterRegistry.counter("warehouse.request.sql.flagged", tags).increment();
+            long jdbcMillis = TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos());
+            logger.warn("{} {} ran {} SQL statements ({} entities loaded, {} ms in JDBC)",
+                    request.getMethod(), uri, stats.getStatements(), stats.getEntitiesLoaded(), jdbcMillis);
+            hotspotEndpoint.record(new SqlHotspot(LocalDateTime.now(), request.getMethod(), uri,
+                    stats.getStatements(), stats.getBatches(), stats.getEntitiesLoaded(), jdbcMillis));
+        }
+    }
+
+    private DistributionSummary summary(String name, Tags tags) {
+        return DistributionSummary.builder(name)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,45 @@
+package com.warehouse.metrics;
+
+/**
+ * SQL work done on behalf of the current HTTP request. Bound to the request thread by
+ * {@link RequestMetricsFilter}; work on other threads (async jobs, the reconciliation pool) is not counted.
+ */
+public class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    long statements;
+    long batches;
+    long entitiesLoaded;
+    long jdbcNanos;
+
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getBatches() {
+        return batches;
+    }
+
+    public long getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+}
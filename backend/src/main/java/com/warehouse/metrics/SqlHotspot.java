@@ -0,0 +1,7 @@
+package com.warehouse.metrics;
+
+import java.time.LocalDateTime;
+
+public record SqlHotspot(LocalDateTime timestamp, String method, String uri, long statements, long batches,
+                         long entitiesLoaded, long jdbcMillis) {
+}
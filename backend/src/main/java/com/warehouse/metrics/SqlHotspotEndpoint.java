@@ -0,0 +1,35 @@
+package com.warehouse.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * {@code /actuator/sqlhotspots}: the most recent requests that ran more SQL statements than
+ * {@code metrics.sql.flag-threshold}, newest first.
+ */
+@Component
+@Endpoint(id = "sqlhotspots")
+public class SqlHotspotEndpoint {
+
+    private static final int MAX_ENTRIES = 100;
+
+    private final Deque<SqlHotspot> hotspots = new ConcurrentLinkedDeque<>();
+
+    void record(SqlHotspot hotspot) {
+        hotspots.addFirst(hotspot);
+        while (hotspots.size() > MAX_ENTRIES) {
+            hotspots.pollLast();
+        }
+    }
+
+    @ReadOperation
+    public List<SqlHotspot> hotspots() {
+        return new ArrayList<>(hotspots);
+    }
+}
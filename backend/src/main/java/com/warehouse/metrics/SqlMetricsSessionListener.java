@@ -0,0 +1,48 @@
+package com.warehouse.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Created by Hibernate for every session (hibernate.session.events.auto); adds the session's statement
+ * count and JDBC execution time to the stats of the request running on this thread.
+ */
+public class SqlMetricsSessionListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.jdbcNanos += System.nanoTime() - executeStart;
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.batches++;
+            stats.jdbcNanos += System.nanoTime() - batchStart;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.warehouse.numbering;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out document numbers such as {@code ORD-000042} or {@code TXN-20240115-000042}.
+ * <p>
+ * Numbers are drawn from blocks reserved in {@code document_sequence} (hi/lo): each node owns the blocks it
+ * reserved, so numbers stay unique across nodes, and within a block they come from an atomic counter without
+ * touching the database. Numbers left in a block when a node stops are skipped, never reused.
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentNumberService {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final DocumentSequenceAllocator allocator;
+    private final Map<DocumentType, Block> blocks = new ConcurrentHashMap<>();
+    // One refill lock per sequence key, so a slow refill of one document type never holds up another
+    private final Map<String, ReentrantLock> refillLocks = new ConcurrentHashMap<>();
+
+    @Value("${numbering.block-size:50}")
+    private int blockSize;
+
+    public String next(DocumentType type) {
+        String sequenceKey = type.isDaily()
+                ? type.getPrefix() + "-" + LocalDate.now().format(DAY_FORMAT)
+                : type.getPrefix();
+        return String.format("%s-%06d", sequenceKey, nextValue(type, sequenceKey));
+    }
+
+    private long nextValue(DocumentType type, String sequenceKey) {
+        long value = take(type, sequenceKey);
+        if (value > 0) {
+            return value;
+        }
+
+        // Slow path, once per block: reserve a fresh range while other callers of this key wait on the lock
+        ReentrantLock refillLock = refillLocks.computeIfAbsent(sequenceKey, key -> new ReentrantLock());
+        refillLock.lock();
+        try {
+            value = take(type, sequenceKey);
+            if (value > 0) {
+                return value;
+            }
+            long start = allocator.reserveBlock(sequenceKey, blockSize);
+            Block block = new Block(sequenceKey, start, start + blockSize);
+            value = block.take();
+            blocks.put(type, block);
+            return value;
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    // Returns 0 when there is no usable block for this key
+    private long take(DocumentType type, String sequenceKey) {
+        Block block = blocks.get(type);
+        if (block == null || !block.sequenceKey.equals(sequenceKey)) {
+            return 0;
+        }
+        return block.take();
+    }
+
+    private static final class Block {
+        private final String sequenceKey;
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(String sequenceKey, long start, long end) {
+            this.sequenceKey = sequenceKey;
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+
+        private long take() {
+            long value = next.getAndIncrement();
+            return value < end ? value : 0;
+        }
+    }
+}
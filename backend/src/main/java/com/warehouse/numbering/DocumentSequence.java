@@ -0,0 +1,21 @@
+package com.warehouse.numbering;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "document_sequence")
+public class DocumentSequence {
+
+    @Id
+    @Column(name = "sequence_key", length = 50)
+    private String sequenceKey;
+
+    // First value not yet handed to any node
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
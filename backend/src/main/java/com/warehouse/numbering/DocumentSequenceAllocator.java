@@ -0,0 +1,69 @@
+package com.warehouse.numbering;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Reserves blocks of document numbers on a small connection pool of its own, in autocommit mode.
+ * <p>
+ * A refill happens while the caller's service transaction already holds a connection from the main pool, so
+ * drawing a second one from that pool could wait out the connection timeout when the pool is busy. The
+ * reservation is a single autocommitted upsert: the sequence row is locked only for that statement, and a
+ * rolled-back caller never hands a block out twice.
+ */
+@Service
+public class DocumentSequenceAllocator implements DisposableBean {
+
+    // Sets LAST_INSERT_ID to the new next_value on both the insert and the update path
+    private static final String ADVANCE = "INSERT INTO document_sequence (sequence_key, next_value) " +
+            "VALUES (?, LAST_INSERT_ID(1 + ?)) " +
+            "ON DUPLICATE KEY UPDATE next_value = LAST_INSERT_ID(next_value + ?)";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public DocumentSequenceAllocator(DataSourceProperties dataSourceProperties,
+                                     @Value("${numbering.pool-size:2}") int poolSize) {
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("numbering");
+        this.dataSource.setMaximumPoolSize(poolSize);
+        this.dataSource.setMinimumIdle(1);
+        this.dataSource.setAutoCommit(true);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // Returns the first value of a block [start, start + blockSize) owned exclusively by this node
+    public long reserveBlock(String sequenceKey, int blockSize) {
+        // Both statements must run on the same connection, since LAST_INSERT_ID is per connection
+        Long nextValue = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (PreparedStatement advance = connection.prepareStatement(ADVANCE)) {
+                advance.setString(1, sequenceKey);
+                advance.setLong(2, blockSize);
+                advance.setLong(3, blockSize);
+                advance.executeUpdate();
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT LAST_INSERT_ID()");
+                 ResultSet resultSet = select.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        });
+        if (nextValue == null || nextValue == 0) {
+            throw new RuntimeException("Could not reserve document numbers for " + sequenceKey);
+        }
+        return nextValue - blockSize;
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,17 @@
+package com.warehouse.numbering;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DocumentType {
+    TRANSACTION("TXN", true),
+    ORDER("ORD", false),
+    PRODUCTION("PROD", false),
+    MATERIAL_RECEIPT("REC", false);
+
+    private final String prefix;
+    // Daily documents restart at 1 every day and carry the date in the number
+    private final boolean daily;
+}
@@ -1,5 +1,6 @@
 package com.warehouse.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,11 +22,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final JwtPrincipalCache principalCache;
 
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
-                                   UserDetailsService userDetailsService) {
+                                   UserDetailsService userDetailsService,
+                                   JwtPrincipalCache principalCache) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -37,12 +41,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Get JWT token from HTTP request
         String token = getTokenFromRequest(request);
 
-        // Validate Token
-        if(StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)){
-            // get username from token
-            String username = jwtTokenProvider.getUsername(token);
-
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if(StringUtils.hasText(token)){
+            // A token seen before was already verified; otherwise validate it and read the username in one parse
+            UserDetails userDetails = principalCache.get(token);
+            if(userDetails == null){
+                Claims claims = jwtTokenProvider.parseClaims(token);
+                userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+                principalCache.put(token, userDetails, claims.getExpiration());
+            }
 
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                     userDetails,
@@ -0,0 +1,67 @@
+package com.warehouse.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Bounded, time-limited cache of already verified tokens and the user they resolved to.
+ * A hit skips both the signature check and the user lookup; an entry never outlives its token.
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final Cache<String, CachedPrincipal> cache;
+
+    public JwtPrincipalCache(@Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${jwt.principal-cache.ttl:PT5M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public UserDetails get(String token) {
+        CachedPrincipal principal = cache.getIfPresent(token);
+        if (principal == null) {
+            return null;
+        }
+        if (principal.expiresAt() != null && principal.expiresAt().before(new Date())) {
+            cache.invalidate(token);
+            return null;
+        }
+        return principal.userDetails();
+    }
+
+    public void put(String token, UserDetails userDetails, Date expiresAt) {
+        cache.put(token, new CachedPrincipal(userDetails, expiresAt));
+    }
+
+    // Drops every cached token of the user once the surrounding transaction commits
+    public void evictUser(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(username);
+                }
+            });
+        } else {
+            evictNow(username);
+        }
+    }
+
+    private void evictNow(String username) {
+        cache.asMap().values().removeIf(principal -> principal.userDetails().getUsername().equals(username));
+    }
+
+    private record CachedPrincipal(UserDetails userDetails, Date expiresAt) {
+    }
+}
@@ -1,9 +1,11 @@
 package com.warehouse.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -19,6 +21,18 @@ public class JwtTokenProvider {
     @Value("${jwt.jwt-expiration-milliseconds}")
     private long jwtExpirationDate;
 
+    private Key key;
+    private JwtParser parser;
+
+    // Decode the secret and build the parser once instead of on every request
+    @PostConstruct
+    public void init() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
     // Generate JWT token
     public String generateToken(Authentication authentication){
 
@@ -32,25 +46,15 @@ public class JwtTokenProvider {
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(expireDate)
-                .signWith(key())
+                .signWith(key)
                 .compact();
 
         return token;
     }
 
-    private Key key(){
-        return Keys.hmacShaKeyFor(
-                Decoders.BASE64.decode(jwtSecret)
-        );
-    }
-
     // Get username from JWT token
     public String getUsername(String token){
-        Claims claims =  Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
 
         String username;
         username = claims.getSubject();
@@ -61,12 +65,14 @@ public class JwtTokenProvider {
     // Validate JWT Token
     public boolean validateToken(String token){
 
-        Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parse(token);
+        parser.parse(token);
 
         return true;
     }
 
+    // Verify the token and read its claims in a single parse
+    public Claims parseClaims(String token){
+        return parser.parseClaimsJws(token).getBody();
+    }
+
 }
\ No newline at end of file
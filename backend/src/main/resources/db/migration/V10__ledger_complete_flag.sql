@@ -0,0 +1,9 @@
+-- Items and products created from now on post their opening stock and every direct quantity edit to the
+-- ledger, so reconciliation may rebuild their counters from it. Rows that exist already carry opening stock
+-- the ledger never saw: they start out FALSE and are only reported. Hibernate does not map the column, so
+-- rows it inserts take the new default.
+ALTER TABLE item ADD COLUMN ledger_complete BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE item ALTER COLUMN ledger_complete SET DEFAULT TRUE;
+
+ALTER TABLE product ADD COLUMN ledger_complete BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE product ALTER COLUMN ledger_complete SET DEFAULT TRUE;
@@ -0,0 +1,33 @@
+-- Client totals are no longer written by Hibernate, so new rows take their starting values from the column
+UPDATE client SET total_orders = COALESCE(total_orders, 0), total_value = COALESCE(total_value, 0);
+
+ALTER TABLE client
+    MODIFY total_orders INTEGER        NOT NULL DEFAULT 0,
+    MODIFY total_value  DECIMAL(10, 2) NOT NULL DEFAULT 0;
+
+-- Failed projection attempts per event. Batches only claim events that have never failed; failed ones are
+-- retried one at a time until outbox.max-attempts, then moved to the dead-letter table.
+ALTER TABLE transaction_outbox
+    ADD COLUMN attempts   INT NOT NULL DEFAULT 0,
+    ADD COLUMN last_error VARCHAR(1000),
+    ADD INDEX idx_transaction_outbox_attempts (attempts, outbox_id);
+
+CREATE TABLE transaction_outbox_dead_letter (
+    outbox_id           BIGINT                       NOT NULL,
+    transaction_id      BIGINT                       NOT NULL,
+    event_type          ENUM ('RECORDED','REVERSED') NOT NULL,
+    transaction_date    DATETIME(6),
+    transaction_type    VARCHAR(20),
+    entity_type         VARCHAR(20),
+    entity_id           BIGINT,
+    warehouse_id        BIGINT,
+    source_warehouse_id BIGINT,
+    client_id           BIGINT,
+    quantity            DECIMAL(19, 3),
+    total_price         DECIMAL(19, 2),
+    created_at          DATETIME(6)                  NOT NULL,
+    attempts            INT                          NOT NULL,
+    last_error          VARCHAR(1000),
+    dead_lettered_at    DATETIME(6)                  NOT NULL,
+    PRIMARY KEY (outbox_id)
+) ENGINE = InnoDB;
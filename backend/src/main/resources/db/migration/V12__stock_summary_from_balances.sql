@@ -0,0 +1,3 @@
+-- The warehouse stock rollup now takes quantity and value from stock_balance instead of each row's own
+-- warehouse. Empty it so WarehouseStockSummaryService rebuilds it on startup.
+DELETE FROM warehouse_stock_summary;
@@ -0,0 +1,33 @@
+-- Commit-ordered ledger sequence. Transaction ids come from a pooled sequence and say nothing about commit
+-- order, so the projection worker stamps each posting with the next value here as it leaves the outbox.
+CREATE TABLE ledger_sequence (
+    id       TINYINT NOT NULL,
+    next_val BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO ledger_sequence (id, next_val) VALUES (1, 1);
+
+ALTER TABLE `transaction`
+    ADD COLUMN ledger_seq BIGINT,
+    ADD INDEX idx_transaction_ledger_seq (ledger_seq);
+
+-- Postings already projected come before any checkpoint taken from now on; pending ones are stamped by the worker
+UPDATE `transaction` t SET t.ledger_seq = 0
+WHERE NOT EXISTS (SELECT 1 FROM transaction_outbox o WHERE o.transaction_id = t.transaction_id);
+
+-- Checkpoints are now bounded by the ledger sequence. The date-bounded ones cannot say which postings they
+-- hold, so they are dropped (their lines cascade) and the next scheduled run takes a fresh one.
+DELETE FROM inventory_checkpoint;
+
+ALTER TABLE inventory_checkpoint
+    ADD COLUMN ledger_seq BIGINT NOT NULL DEFAULT 0 AFTER taken_at;
+
+-- Postings that had committed but were not stamped yet when the checkpoint was taken
+CREATE TABLE inventory_checkpoint_pending (
+    checkpoint_id  BIGINT NOT NULL,
+    transaction_id BIGINT NOT NULL,
+    PRIMARY KEY (checkpoint_id, transaction_id),
+    CONSTRAINT fk_inventory_checkpoint_pending_checkpoint FOREIGN KEY (checkpoint_id)
+        REFERENCES inventory_checkpoint (checkpoint_id) ON DELETE CASCADE
+) ENGINE = InnoDB;
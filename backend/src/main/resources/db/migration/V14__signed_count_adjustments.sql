@@ -0,0 +1,20 @@
+-- Count corrections that took stock away were posted as OUTBOUND and counted as sales. They are now signed
+-- ADJUSTMENTs; convert the old ones, including any still waiting in the outbox, with the same net stock effect.
+UPDATE transaction_outbox o
+    JOIN `transaction` t ON t.transaction_id = o.transaction_id
+SET o.transaction_type = 'ADJUSTMENT',
+    o.quantity         = -o.quantity,
+    o.total_price      = -o.total_price
+WHERE t.transaction_type = 'OUTBOUND'
+  AND t.reference_number LIKE 'COUNT-%'
+  AND o.transaction_type = 'OUTBOUND';
+
+UPDATE `transaction`
+SET transaction_type = 'ADJUSTMENT',
+    quantity         = -quantity,
+    total_price      = -total_price
+WHERE transaction_type = 'OUTBOUND'
+  AND reference_number LIKE 'COUNT-%';
+
+-- The movement buckets counted them as outbound; TransactionStatsService rebuilds them on startup
+DELETE FROM transaction_movement_stat;
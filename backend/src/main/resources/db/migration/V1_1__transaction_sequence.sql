@@ -0,0 +1,12 @@
+-- Transaction ids are drawn in blocks from a table-backed sequence (pooled, allocationSize 50) instead of
+-- an identity column, so ledger inserts can be JDBC-batched. afterMigrate.sql moves the sequence past the
+-- ids that already exist.
+ALTER TABLE `transaction`
+    MODIFY transaction_id BIGINT NOT NULL;
+
+CREATE TABLE IF NOT EXISTS transaction_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO transaction_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM transaction_seq);
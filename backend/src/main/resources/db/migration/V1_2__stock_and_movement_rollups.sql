@@ -0,0 +1,25 @@
+-- Daily movement buckets behind the transaction charts and the per-warehouse stock valuation rollup.
+-- Both are rebuilt from the ledger and stock on startup when empty.
+
+CREATE TABLE IF NOT EXISTS transaction_movement_stat (
+    stat_id           BIGINT NOT NULL AUTO_INCREMENT,
+    bucket_date       DATE   NOT NULL,
+    transaction_type  ENUM ('INBOUND','OUTBOUND','PRODUCTION','TRANSFER','ADJUSTMENT') NOT NULL,
+    entity_type       ENUM ('ITEMS','PRODUCTS') NOT NULL,
+    warehouse_id      BIGINT NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    total_quantity    DECIMAL(19, 3),
+    total_price       DECIMAL(19, 2),
+    PRIMARY KEY (stat_id),
+    CONSTRAINT uk_movement_stat_bucket UNIQUE (bucket_date, transaction_type, entity_type, warehouse_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS warehouse_stock_summary (
+    warehouse_id           BIGINT NOT NULL,
+    total_items            BIGINT,
+    total_products         BIGINT,
+    total_item_quantity    DECIMAL(19, 3),
+    total_product_quantity DECIMAL(19, 3),
+    total_value            DECIMAL(19, 5),
+    PRIMARY KEY (warehouse_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,6 @@
+-- Block-allocated counters for order, receipt and production numbers
+CREATE TABLE IF NOT EXISTS document_sequence (
+    sequence_key VARCHAR(50) NOT NULL,
+    next_value   BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_key)
+) ENGINE = InnoDB;
@@ -0,0 +1,262 @@
+-- Baseline schema, matching what hibernate.ddl-auto=update produced for the entity model before Flyway
+-- took over. Databases that already hold these tables are baselined at V1 and skip this script, so it must
+-- stay exactly that schema; everything added since goes into a later versioned script.
+
+CREATE TABLE category (
+    category_id BIGINT NOT NULL AUTO_INCREMENT,
+    created_by  VARCHAR(255) NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    modified_by VARCHAR(255),
+    modified_at DATETIME(6),
+    name        VARCHAR(100),
+    PRIMARY KEY (category_id),
+    CONSTRAINT uk_category_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE unit (
+    unit_id     BIGINT NOT NULL AUTO_INCREMENT,
+    created_by  VARCHAR(255) NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    modified_by VARCHAR(255),
+    modified_at DATETIME(6),
+    name        VARCHAR(50),
+    PRIMARY KEY (unit_id),
+    CONSTRAINT uk_unit_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE warehouse (
+    warehouse_id BIGINT NOT NULL AUTO_INCREMENT,
+    created_by   VARCHAR(255) NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    modified_by  VARCHAR(255),
+    modified_at  DATETIME(6),
+    name         VARCHAR(100),
+    location     VARCHAR(200),
+    manager      VARCHAR(100),
+    description  VARCHAR(500),
+    PRIMARY KEY (warehouse_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE `user` (
+    user_id     BIGINT NOT NULL AUTO_INCREMENT,
+    created_by  VARCHAR(255) NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    modified_by VARCHAR(255),
+    modified_at DATETIME(6),
+    username    VARCHAR(50),
+    full_name   VARCHAR(100),
+    email       VARCHAR(100),
+    password    VARCHAR(100),
+    tel         VARCHAR(20),
+    role        ENUM ('ADMIN','MENEJER','HR','ISHCHI','QOROVUL'),
+    state       ENUM ('ACTIVE','INACTIVE','SUSPENDED'),
+    telegram    VARCHAR(100),
+    memo        VARCHAR(500),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT uk_user_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE client (
+    client_id    BIGINT NOT NULL AUTO_INCREMENT,
+    created_by   VARCHAR(255) NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    modified_by  VARCHAR(255),
+    modified_at  DATETIME(6),
+    name         VARCHAR(200),
+    email        VARCHAR(100),
+    phone        VARCHAR(20),
+    address      VARCHAR(500),
+    type         ENUM ('CORPORATE','RETAIL'),
+    total_orders INTEGER,
+    total_value  DECIMAL(10, 2),
+    PRIMARY KEY (client_id),
+    CONSTRAINT uk_client_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE item (
+    item_id      BIGINT NOT NULL AUTO_INCREMENT,
+    created_by   VARCHAR(255) NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    modified_by  VARCHAR(255),
+    modified_at  DATETIME(6),
+    code         VARCHAR(50),
+    name         VARCHAR(200),
+    category_id  BIGINT,
+    warehouse_id BIGINT,
+    unit_id      BIGINT,
+    price        DECIMAL(10, 2),
+    description  VARCHAR(1000),
+    quantity     DECIMAL(10, 3),
+    PRIMARY KEY (item_id),
+    CONSTRAINT uk_item_code UNIQUE (code),
+    CONSTRAINT fk_item_category FOREIGN KEY (category_id) REFERENCES category (category_id),
+    CONSTRAINT fk_item_warehouse FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id),
+    CONSTRAINT fk_item_unit FOREIGN KEY (unit_id) REFERENCES unit (unit_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE product (
+    product_id       BIGINT NOT NULL AUTO_INCREMENT,
+    created_by       VARCHAR(255) NOT NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    modified_by      VARCHAR(255),
+    modified_at      DATETIME(6),
+    code             VARCHAR(50),
+    name             VARCHAR(200),
+    category_id      BIGINT,
+    warehouse_id     BIGINT,
+    unit_id          BIGINT,
+    total_cost_price DECIMAL(10, 2),
+    sale_price       DECIMAL(10, 2),
+    description      VARCHAR(1000),
+    quantity         DECIMAL(10, 3),
+    PRIMARY KEY (product_id),
+    CONSTRAINT uk_product_code UNIQUE (code),
+    CONSTRAINT fk_product_category FOREIGN KEY (category_id) REFERENCES category (category_id),
+    CONSTRAINT fk_product_warehouse FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id),
+    CONSTRAINT fk_product_unit FOREIGN KEY (unit_id) REFERENCES unit (unit_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE orders (
+    order_id      BIGINT NOT NULL AUTO_INCREMENT,
+    created_by    VARCHAR(255) NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    modified_by   VARCHAR(255),
+    modified_at   DATETIME(6),
+    order_number  VARCHAR(100),
+    warehouse_id  BIGINT,
+    user_id       BIGINT,
+    status        ENUM ('PENDING','CONFIRMED','RECEIVED','CANCELLED'),
+    order_date    DATETIME(6),
+    received_date DATETIME(6),
+    total_amount  DECIMAL(10, 2),
+    notes         VARCHAR(1000),
+    supplier      VARCHAR(200),
+    PRIMARY KEY (order_id),
+    CONSTRAINT uk_orders_order_number UNIQUE (order_number),
+    CONSTRAINT fk_orders_warehouse FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id),
+    CONSTRAINT fk_orders_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE order_item (
+    order_item_id     BIGINT NOT NULL AUTO_INCREMENT,
+    created_by        VARCHAR(255) NOT NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    modified_by       VARCHAR(255),
+    modified_at       DATETIME(6),
+    order_id          BIGINT,
+    item_id           BIGINT,
+    ordered_quantity  DECIMAL(10, 3),
+    received_quantity DECIMAL(10, 3),
+    unit_price        DECIMAL(10, 2),
+    total_price       DECIMAL(10, 2),
+    PRIMARY KEY (order_item_id),
+    CONSTRAINT fk_order_item_order FOREIGN KEY (order_id) REFERENCES orders (order_id),
+    CONSTRAINT fk_order_item_item FOREIGN KEY (item_id) REFERENCES item (item_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE material_receipt (
+    receipt_id     BIGINT NOT NULL AUTO_INCREMENT,
+    created_by     VARCHAR(255) NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    modified_by    VARCHAR(255),
+    modified_at    DATETIME(6),
+    receipt_number VARCHAR(100),
+    warehouse_id   BIGINT,
+    user_id        BIGINT,
+    status         ENUM ('PENDING','RECEIVED','CANCELLED'),
+    receipt_date   DATETIME(6),
+    received_date  DATETIME(6),
+    total_amount   DECIMAL(10, 2),
+    notes          VARCHAR(1000),
+    supplier       VARCHAR(200),
+    PRIMARY KEY (receipt_id),
+    CONSTRAINT uk_material_receipt_number UNIQUE (receipt_number),
+    CONSTRAINT fk_material_receipt_warehouse FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id),
+    CONSTRAINT fk_material_receipt_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE material_receipt_item (
+    receipt_item_id   BIGINT NOT NULL AUTO_INCREMENT,
+    created_by        VARCHAR(255) NOT NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    modified_by       VARCHAR(255),
+    modified_at       DATETIME(6),
+    receipt_id        BIGINT,
+    item_id           BIGINT,
+    ordered_quantity  DECIMAL(10, 3),
+    received_quantity DECIMAL(10, 3),
+    unit_price        DECIMAL(10, 2),
+    total_price       DECIMAL(10, 2),
+    PRIMARY KEY (receipt_item_id),
+    CONSTRAINT fk_material_receipt_item_receipt FOREIGN KEY (receipt_id) REFERENCES material_receipt (receipt_id),
+    CONSTRAINT fk_material_receipt_item_item FOREIGN KEY (item_id) REFERENCES item (item_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE production (
+    production_id     BIGINT NOT NULL AUTO_INCREMENT,
+    created_by        VARCHAR(255) NOT NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    modified_by       VARCHAR(255),
+    modified_at       DATETIME(6),
+    production_number VARCHAR(100),
+    product_id        BIGINT,
+    warehouse_id      BIGINT,
+    user_id           BIGINT,
+    planned_quantity  DECIMAL(10, 3),
+    produced_quantity DECIMAL(10, 3),
+    status            ENUM ('PLANNED','IN_PROGRESS','COMPLETED','CANCELLED','ON_HOLD'),
+    start_date        DATETIME(6),
+    end_date          DATETIME(6),
+    planned_date      DATETIME(6),
+    notes             VARCHAR(1000),
+    total_cost        DECIMAL(10, 2),
+    PRIMARY KEY (production_id),
+    CONSTRAINT uk_production_number UNIQUE (production_number),
+    CONSTRAINT fk_production_product FOREIGN KEY (product_id) REFERENCES product (product_id),
+    CONSTRAINT fk_production_warehouse FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id),
+    CONSTRAINT fk_production_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE production_item (
+    production_item_id BIGINT NOT NULL AUTO_INCREMENT,
+    created_by         VARCHAR(255) NOT NULL,
+    created_at         DATETIME(6)  NOT NULL,
+    modified_by        VARCHAR(255),
+    modified_at        DATETIME(6),
+    production_id      BIGINT,
+    item_id            BIGINT,
+    required_quantity  DECIMAL(10, 3),
+    used_quantity      DECIMAL(10, 3),
+    unit_cost          DECIMAL(10, 2),
+    total_cost         DECIMAL(10, 2),
+    PRIMARY KEY (production_item_id),
+    CONSTRAINT fk_production_item_production FOREIGN KEY (production_id) REFERENCES production (production_id),
+    CONSTRAINT fk_production_item_item FOREIGN KEY (item_id) REFERENCES item (item_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE `transaction` (
+    transaction_id   BIGINT NOT NULL AUTO_INCREMENT,
+    created_by       VARCHAR(255) NOT NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    modified_by      VARCHAR(255),
+    modified_at      DATETIME(6),
+    transaction_type ENUM ('INBOUND','OUTBOUND','PRODUCTION','TRANSFER','ADJUSTMENT'),
+    entity_type      ENUM ('ITEMS','PRODUCTS'),
+    item_id          BIGINT,
+    product_id       BIGINT,
+    warehouse_id     BIGINT,
+    user_id          BIGINT,
+    quantity         DECIMAL(10, 3),
+    unit_price       DECIMAL(10, 2),
+    total_price      DECIMAL(10, 2),
+    status           ENUM ('COMPLETED','PENDING','CANCELLED','RETURNED'),
+    notes            VARCHAR(1000),
+    transaction_date DATETIME(6),
+    reference_number VARCHAR(100),
+    PRIMARY KEY (transaction_id),
+    CONSTRAINT fk_transaction_item FOREIGN KEY (item_id) REFERENCES item (item_id),
+    CONSTRAINT fk_transaction_product FOREIGN KEY (product_id) REFERENCES product (product_id),
+    CONSTRAINT fk_transaction_warehouse FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id),
+    CONSTRAINT fk_transaction_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
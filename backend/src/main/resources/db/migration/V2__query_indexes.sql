@@ -0,0 +1,51 @@
+-- Composite indexes for the repository queries. Each one leads with the equality column of a
+-- query and ends with the column it ranges over or sorts by, so the lookup is a single index range.
+-- Foreign key columns covered by a leading column here no longer need their own implicit index.
+
+-- Ledger: keyset pagination (ORDER BY transaction_date DESC, transaction_id DESC) and date ranges
+CREATE INDEX idx_transaction_date_id ON `transaction` (transaction_date, transaction_id);
+CREATE INDEX idx_transaction_warehouse_date ON `transaction` (warehouse_id, transaction_date);
+CREATE INDEX idx_transaction_item_date ON `transaction` (item_id, transaction_date);
+CREATE INDEX idx_transaction_product_date ON `transaction` (product_id, transaction_date);
+CREATE INDEX idx_transaction_user_date ON `transaction` (user_id, transaction_date);
+CREATE INDEX idx_transaction_type_entity_date ON `transaction` (transaction_type, entity_type, transaction_date);
+CREATE INDEX idx_transaction_status_date ON `transaction` (status, transaction_date);
+CREATE INDEX idx_transaction_entity_date ON `transaction` (entity_type, transaction_date);
+CREATE INDEX idx_transaction_reference ON `transaction` (reference_number);
+
+-- Purchase orders
+CREATE INDEX idx_orders_order_date ON orders (order_date);
+CREATE INDEX idx_orders_status_date ON orders (status, order_date);
+CREATE INDEX idx_orders_warehouse_date ON orders (warehouse_id, order_date);
+CREATE INDEX idx_orders_user_date ON orders (user_id, order_date);
+
+-- Material receipts
+CREATE INDEX idx_material_receipt_date ON material_receipt (receipt_date);
+CREATE INDEX idx_material_receipt_status_date ON material_receipt (status, receipt_date);
+CREATE INDEX idx_material_receipt_warehouse_date ON material_receipt (warehouse_id, receipt_date);
+CREATE INDEX idx_material_receipt_user_date ON material_receipt (user_id, receipt_date);
+
+-- Production runs
+CREATE INDEX idx_production_planned_date ON production (planned_date);
+CREATE INDEX idx_production_start_date ON production (start_date);
+CREATE INDEX idx_production_status_planned ON production (status, planned_date);
+CREATE INDEX idx_production_warehouse_planned ON production (warehouse_id, planned_date);
+CREATE INDEX idx_production_product_planned ON production (product_id, planned_date);
+CREATE INDEX idx_production_user_planned ON production (user_id, planned_date);
+
+-- Stock master data: list views sort by name, summaries group by warehouse
+CREATE INDEX idx_item_name ON item (name);
+CREATE INDEX idx_item_warehouse_quantity ON item (warehouse_id, quantity, price);
+CREATE INDEX idx_product_name ON product (name);
+CREATE INDEX idx_product_warehouse_quantity ON product (warehouse_id, quantity, sale_price);
+
+-- Lookups by type, role and state
+CREATE INDEX idx_client_type ON client (type);
+CREATE INDEX idx_user_state_role ON `user` (state, role);
+CREATE INDEX idx_user_role ON `user` (role);
+CREATE INDEX idx_warehouse_name ON warehouse (name);
+CREATE INDEX idx_warehouse_location ON warehouse (location);
+CREATE INDEX idx_warehouse_manager ON warehouse (manager);
+
+-- Movement rollup filtered by warehouse over a date range
+CREATE INDEX idx_movement_stat_warehouse_date ON transaction_movement_stat (warehouse_id, bucket_date);
@@ -0,0 +1,22 @@
+-- Periodic stock snapshots for point-in-time inventory queries
+
+CREATE TABLE inventory_checkpoint (
+    checkpoint_id BIGINT      NOT NULL AUTO_INCREMENT,
+    taken_at      DATETIME(6) NOT NULL,
+    item_count    BIGINT      NOT NULL,
+    product_count BIGINT      NOT NULL,
+    PRIMARY KEY (checkpoint_id),
+    INDEX idx_inventory_checkpoint_taken_at (taken_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE inventory_checkpoint_line (
+    checkpoint_id BIGINT                     NOT NULL,
+    entity_type   ENUM ('ITEMS','PRODUCTS')  NOT NULL,
+    entity_id     BIGINT                     NOT NULL,
+    warehouse_id  BIGINT,
+    quantity      DECIMAL(19, 3)             NOT NULL,
+    PRIMARY KEY (checkpoint_id, entity_type, entity_id),
+    INDEX idx_inventory_checkpoint_line_warehouse (checkpoint_id, warehouse_id),
+    CONSTRAINT fk_inventory_checkpoint_line_checkpoint FOREIGN KEY (checkpoint_id)
+        REFERENCES inventory_checkpoint (checkpoint_id) ON DELETE CASCADE
+) ENGINE = InnoDB;
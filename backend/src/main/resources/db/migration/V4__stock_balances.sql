@@ -0,0 +1,23 @@
+-- Stock per (item or product, warehouse). Seeded from each row's own warehouse, which held all of its stock
+-- until transfers existed.
+
+CREATE TABLE stock_balance (
+    entity_type  ENUM ('ITEMS','PRODUCTS') NOT NULL,
+    entity_id    BIGINT                    NOT NULL,
+    warehouse_id BIGINT                    NOT NULL,
+    quantity     DECIMAL(19, 3)            NOT NULL,
+    PRIMARY KEY (entity_type, entity_id, warehouse_id),
+    INDEX idx_stock_balance_warehouse (warehouse_id, entity_type, entity_id),
+    CONSTRAINT fk_stock_balance_warehouse FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id)
+) ENGINE = InnoDB;
+
+INSERT INTO stock_balance (entity_type, entity_id, warehouse_id, quantity)
+SELECT 'ITEMS', item_id, warehouse_id, COALESCE(quantity, 0) FROM item WHERE warehouse_id IS NOT NULL;
+
+INSERT INTO stock_balance (entity_type, entity_id, warehouse_id, quantity)
+SELECT 'PRODUCTS', product_id, warehouse_id, COALESCE(quantity, 0) FROM product WHERE warehouse_id IS NOT NULL;
+
+-- Sending warehouse of TRANSFER postings
+ALTER TABLE `transaction`
+    ADD COLUMN source_warehouse_id BIGINT,
+    ADD CONSTRAINT fk_transaction_source_warehouse FOREIGN KEY (source_warehouse_id) REFERENCES warehouse (warehouse_id);
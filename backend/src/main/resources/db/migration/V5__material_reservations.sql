@@ -0,0 +1,18 @@
+-- Stock held back for planned productions. item.reserved_quantity is the running total over all open
+-- reservations of the item; available-to-promise is quantity - reserved_quantity.
+
+ALTER TABLE item
+    ADD COLUMN reserved_quantity DECIMAL(10, 3) NOT NULL DEFAULT 0;
+
+CREATE TABLE material_reservation (
+    reservation_id BIGINT         NOT NULL AUTO_INCREMENT,
+    production_id  BIGINT         NOT NULL,
+    item_id        BIGINT         NOT NULL,
+    quantity       DECIMAL(10, 3) NOT NULL,
+    reserved_at    DATETIME(6)    NOT NULL,
+    PRIMARY KEY (reservation_id),
+    CONSTRAINT uk_material_reservation_production_item UNIQUE (production_id, item_id),
+    INDEX idx_material_reservation_item (item_id, reserved_at),
+    CONSTRAINT fk_material_reservation_production FOREIGN KEY (production_id) REFERENCES production (production_id),
+    CONSTRAINT fk_material_reservation_item FOREIGN KEY (item_id) REFERENCES item (item_id)
+) ENGINE = InnoDB;
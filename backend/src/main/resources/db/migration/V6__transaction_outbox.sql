@@ -0,0 +1,33 @@
+-- Client a sale (OUTBOUND posting) was made to; feeds client.total_orders and client.total_value
+ALTER TABLE `transaction`
+    ADD COLUMN client_id BIGINT,
+    ADD CONSTRAINT fk_transaction_client FOREIGN KEY (client_id) REFERENCES client (client_id);
+
+UPDATE client SET total_orders = COALESCE(total_orders, 0), total_value = COALESCE(total_value, 0);
+
+-- Ledger events written in the posting's own transaction and drained by the projection updater. Each row is
+-- a snapshot of the posting, so a reversal can still be projected after the ledger row is gone.
+CREATE TABLE transaction_outbox (
+    outbox_id        BIGINT                         NOT NULL AUTO_INCREMENT,
+    transaction_id   BIGINT                         NOT NULL,
+    event_type       ENUM ('RECORDED','REVERSED')   NOT NULL,
+    transaction_date DATETIME(6),
+    transaction_type VARCHAR(20),
+    entity_type      VARCHAR(20),
+    warehouse_id     BIGINT,
+    client_id        BIGINT,
+    quantity         DECIMAL(19, 3),
+    total_price      DECIMAL(19, 2),
+    created_at       DATETIME(6)                    NOT NULL,
+    PRIMARY KEY (outbox_id)
+) ENGINE = InnoDB;
+
+-- Read-side counters for the dashboard
+CREATE TABLE dashboard_counter (
+    counter_key   VARCHAR(50) NOT NULL,
+    counter_value BIGINT      NOT NULL,
+    PRIMARY KEY (counter_key)
+) ENGINE = InnoDB;
+
+INSERT INTO dashboard_counter (counter_key, counter_value)
+SELECT 'TRANSACTIONS', COUNT(*) FROM `transaction`;
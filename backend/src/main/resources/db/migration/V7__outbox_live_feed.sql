@@ -0,0 +1,4 @@
+-- Item or product id and sending warehouse on outbox events, so the live feed can publish stock deltas
+ALTER TABLE transaction_outbox
+    ADD COLUMN entity_id BIGINT AFTER entity_type,
+    ADD COLUMN source_warehouse_id BIGINT AFTER warehouse_id;
@@ -0,0 +1,8 @@
+-- The (warehouse_id, quantity, price) covering indexes were added for per-warehouse stock summaries, which
+-- are now kept in warehouse_stock_summary. Every stock posting still had to move the row's entry in them.
+-- Each one also backs the warehouse foreign key, so a plain warehouse_id index takes over first.
+CREATE INDEX idx_item_warehouse ON item (warehouse_id);
+DROP INDEX idx_item_warehouse_quantity ON item;
+
+CREATE INDEX idx_product_warehouse ON product (warehouse_id);
+DROP INDEX idx_product_warehouse_quantity ON product;
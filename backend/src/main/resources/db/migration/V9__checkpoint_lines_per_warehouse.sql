@@ -0,0 +1,8 @@
+-- Checkpoints are taken from stock_balance, one line per entity and warehouse. Stock that is not held in any
+-- warehouse is recorded under warehouse 0, since a primary key column cannot be NULL.
+UPDATE inventory_checkpoint_line SET warehouse_id = 0 WHERE warehouse_id IS NULL;
+
+ALTER TABLE inventory_checkpoint_line
+    MODIFY warehouse_id BIGINT NOT NULL DEFAULT 0,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (checkpoint_id, entity_type, entity_id, warehouse_id);
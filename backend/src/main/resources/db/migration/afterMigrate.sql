@@ -0,0 +1,5 @@
+-- Runs after every Flyway migrate, before Hibernate starts and before the web server takes requests.
+-- Transaction ids are drawn in blocks from transaction_seq so ledger inserts can be JDBC-batched; rows
+-- created while the id was still an identity column keep their ids, so move the sequence past them.
+UPDATE transaction_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(transaction_id), 0) + 1 FROM `transaction`));
@@ -0,0 +1,387 @@
+package com.warehouse.api;
+
+import com.warehouse.api.category.Category;
+import com.warehouse.api.category.CategoryRepository;
+import com.warehouse.api.client.Client;
+import com.warehouse.api.client.ClientService;
+import com.warehouse.api.item.Item;
+import com.warehouse.api.item.ItemService;
+import com.warehouse.api.materialreceipt.MaterialReceipt;
+import com.warehouse.api.materialreceipt.MaterialReceiptItem;
+import com.warehouse.api.materialreceipt.MaterialReceiptItemRepository;
+import com.warehouse.api.materialreceipt.MaterialReceiptService;
+import com.warehouse.api.order.Order;
+import com.warehouse.api.order.OrderItem;
+import com.warehouse.api.order.OrderItemRepository;
+import com.warehouse.api.order.OrderService;
+import com.warehouse.api.product.Product;
+import com.warehouse.api.product.ProductService;
+import com.warehouse.api.production.Production;
+import com.warehouse.api.production.ProductionItem;
+import com.warehouse.api.production.ProductionService;
+import com.warehouse.api.transaction.Transaction;
+import com.warehouse.api.transaction.TransactionService;
+import com.warehouse.api.unit.Unit;
+import com.warehouse.api.unit.UnitRepository;
+import com.warehouse.api.user.User;
+import com.warehouse.api.user.UserRepository;
+import com.warehouse.api.warehouse.Warehouse;
+import com.warehouse.api.warehouse.WarehouseRepository;
+import com.warehouse.security.JwtTokenProvider;
+import com.warehouse.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.core.MethodParameter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Calls every GET endpoint of the application at two database sizes and counts the statements Hibernate
+ * prepares for each call. The bound is fixed, so an endpoint that loads an association per row (an N+1)
+ * fails once the seeded rows grow tenfold. Path variables and required parameters are filled from the
+ * seeded rows by name and type; an endpoint that cannot be filled fails the test, so new endpoints are
+ * covered as they are added.
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class EndpointQueryCountTest extends MySqlIntegrationTest {
+
+    private static final int ROWS = 10;
+    private static final long MAX_STATEMENTS_PER_CALL = 20;
+    private static final BigDecimal PRICE = new BigDecimal("10.00");
+    // Long-lived or streamed responses; the export reads through JdbcTemplate, the live feed not at all
+    private static final Set<String> SKIPPED = Set.of("/live/events", "/transactions/export");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ClientService clientService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private MaterialReceiptService materialReceiptService;
+    @Autowired
+    private MaterialReceiptItemRepository materialReceiptItemRepository;
+    @Autowired
+    private ProductionService productionService;
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UnitRepository unitRepository;
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Warehouse warehouse;
+    private User user;
+    private Category category;
+    private Unit unit;
+    private final Map<String, Long> sampleIds = new TreeMap<>();
+    private Item sampleItem;
+    private Product sampleProduct;
+    private Client sampleClient;
+    private Production sampleProduction;
+
+    @Test
+    void statementsPerCallDoNotGrowWithRows() throws Exception {
+        warehouse = warehouseRepository.findByName("Asosiy omborxona").orElseThrow();
+        user = userRepository.findByUsername("admin").orElseThrow();
+        category = new Category();
+        category.setName("QC-" + uniqueSuffix());
+        category = categoryRepository.save(category);
+        unit = new Unit();
+        unit.setName("QC-" + uniqueSuffix());
+        unit = unitRepository.save(unit);
+
+        seed(ROWS);
+        Map<String, String> small = measureAll();
+        seed(ROWS * 9);
+        Map<String, String> large = measureAll();
+
+        List<String> violations = new ArrayList<>();
+        large.forEach((endpoint, result) -> {
+            String smallResult = small.get(endpoint);
+            if (!isWithinBound(smallResult) || !isWithinBound(result)) {
+                violations.add(String.format("%s: %s with %d rows, %s with %d rows",
+                        endpoint, smallResult, ROWS, result, ROWS * 10));
+            }
+        });
+        assertThat(violations).as("Endpoints above %d statements per call", MAX_STATEMENTS_PER_CALL).isEmpty();
+    }
+
+    // Runs every GET endpoint once and returns the statement count per path, or why the call failed
+    private Map<String, String> measureAll() {
+        awaitDrainedOutbox();
+        String authorization = "Bearer " + jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of()));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, String> results = new TreeMap<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> mapping : handlerMapping.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = mapping.getKey();
+            HandlerMethod handler = mapping.getValue();
+            if (!handler.getBeanType().getName().startsWith("com.warehouse")
+                    || !info.getMethodsCondition().getMethods().contains(RequestMethod.GET)) {
+                continue;
+            }
+            for (String pattern : info.getPatternValues()) {
+                if (SKIPPED.contains(pattern)) {
+                    continue;
+                }
+                try {
+                    MockHttpServletRequestBuilder request = request(pattern, handler).header("Authorization", authorization);
+                    statistics.clear();
+                    int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+                    long statements = statistics.getPrepareStatementCount();
+                    results.put(pattern, status >= 500 ? "status " + status : statements + " statements");
+                } catch (Exception e) {
+                    results.put(pattern, "failed: " + e);
+                }
+            }
+        }
+        return results;
+    }
+
+    private static boolean isWithinBound(String result) {
+        if (result == null || !result.endsWith(" statements")) {
+            return false;
+        }
+        return Long.parseLong(result.substring(0, result.indexOf(' '))) <= MAX_STATEMENTS_PER_CALL;
+    }
+
+    private MockHttpServletRequestBuilder request(String pattern, HandlerMethod handler) {
+        String resource = pattern.split("/")[1];
+        String path = pattern;
+        Map<String, String> parameters = new TreeMap<>();
+        for (MethodParameter parameter : handler.getMethodParameters()) {
+            PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            if (pathVariable != null) {
+                String name = nameOf(pathVariable.name(), pathVariable.value(), parameter);
+                path = path.replace("{" + name + "}", sampleValue(resource, name, parameter.getParameterType()));
+            } else if (requestParam != null && requestParam.required()
+                    && ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue())) {
+                String name = nameOf(requestParam.name(), requestParam.value(), parameter);
+                parameters.put(name, sampleValue(resource, name, parameter.getParameterType()));
+            }
+        }
+        MockHttpServletRequestBuilder request = get(path);
+        parameters.forEach(request::param);
+        return request;
+    }
+
+    private static String nameOf(String name, String value, MethodParameter parameter) {
+        if (!name.isEmpty()) {
+            return name;
+        }
+        return !value.isEmpty() ? value : parameter.getParameterName();
+    }
+
+    private String sampleValue(String resource, String name, Class<?> type) {
+        if (type.isEnum()) {
+            return ((Enum<?>) type.getEnumConstants()[0]).name();
+        }
+        if (type == LocalDateTime.class) {
+            LocalDateTime now = LocalDateTime.now();
+            return switch (name) {
+                case "startDate" -> now.minusDays(1).toString();
+                case "endDate" -> now.plusDays(1).toString();
+                default -> now.toString();
+            };
+        }
+        Object value = switch (name) {
+            case "id" -> sampleIds.get(resource);
+            case "warehouseId" -> warehouse.getWarehouseId();
+            case "itemId", "entityId" -> sampleItem.getItemId();
+            case "productId" -> sampleProduct.getProductId();
+            case "productionId" -> sampleProduction.getProductionId();
+            case "categoryId" -> category.getCategoryId();
+            case "userId" -> user.getUserId();
+            case "code" -> "products".equals(resource) ? sampleProduct.getCode() : sampleItem.getCode();
+            case "email" -> sampleClient.getEmail();
+            default -> "QC";
+        };
+        if (value == null) {
+            throw new IllegalStateException("No sample value for " + name + " under /" + resource);
+        }
+        return value.toString();
+    }
+
+    // Projection work on the outbox goes through Hibernate too; let it finish before counting
+    private void awaitDrainedOutbox() {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_outbox", Long.class) > 0) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Transaction outbox did not drain");
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // Every row references the same warehouse, category and user, so lists grow without new join targets
+    private void seed(int rows) {
+        for (int i = 0; i < rows; i++) {
+            Item item = itemService.createItem(item());
+            Product product = productService.createProduct(product());
+            Client client = clientService.createClient(client());
+            Order order = order(item);
+            MaterialReceipt materialReceipt = materialReceipt(item);
+            Production production = production(product, item);
+            Transaction transaction = transactionService.createItemOutboundTransaction(item.getItemId(),
+                    warehouse.getWarehouseId(), user.getUserId(), client.getClientId(), BigDecimal.ONE, PRICE,
+                    "query count test");
+
+            if (sampleItem == null) {
+                sampleItem = item;
+                sampleProduct = product;
+                sampleClient = client;
+                sampleProduction = production;
+                sampleIds.put("items", item.getItemId());
+                sampleIds.put("products", product.getProductId());
+                sampleIds.put("clients", client.getClientId());
+                sampleIds.put("orders", order.getOrderId());
+                sampleIds.put("material-receipts", materialReceipt.getReceiptId());
+                sampleIds.put("productions", production.getProductionId());
+                sampleIds.put("transactions", transaction.getTransactionId());
+                sampleIds.put("warehouses", warehouse.getWarehouseId());
+                sampleIds.put("users", user.getUserId());
+                sampleIds.put("categories", category.getCategoryId());
+                sampleIds.put("units", unit.getUnitId());
+            }
+        }
+    }
+
+    private Item item() {
+        Item item = new Item();
+        item.setCode("QC-" + uniqueSuffix());
+        item.setName("Query count item");
+        item.setCategory(category);
+        item.setUnit(unit);
+        item.setWarehouse(warehouse);
+        item.setPrice(PRICE);
+        item.setQuantity(new BigDecimal("100"));
+        return item;
+    }
+
+    private Product product() {
+        Product product = new Product();
+        product.setCode("QC-" + uniqueSuffix());
+        product.setName("Query count product");
+        product.setCategory(category);
+        product.setUnit(unit);
+        product.setWarehouse(warehouse);
+        product.setSalePrice(PRICE);
+        product.setQuantity(new BigDecimal("100"));
+        return product;
+    }
+
+    private Client client() {
+        Client client = new Client();
+        client.setName("Query count client");
+        client.setEmail("qc-" + uniqueSuffix() + "@example.com");
+        return client;
+    }
+
+    private Order order(Item item) {
+        Order draft = new Order();
+        draft.setWarehouse(warehouse);
+        draft.setUser(user);
+        draft.setSupplier("Query count supplier");
+        Order order = orderService.createOrder(draft);
+        OrderItem line = new OrderItem();
+        line.setOrder(order);
+        line.setItem(item);
+        line.setOrderedQuantity(BigDecimal.ONE);
+        line.setUnitPrice(PRICE);
+        line.setTotalPrice(PRICE);
+        orderItemRepository.save(line);
+        return order;
+    }
+
+    private MaterialReceipt materialReceipt(Item item) {
+        MaterialReceipt draft = new MaterialReceipt();
+        draft.setWarehouse(warehouse);
+        draft.setUser(user);
+        draft.setSupplier("Query count supplier");
+        MaterialReceipt materialReceipt = materialReceiptService.createMaterialReceipt(draft);
+        MaterialReceiptItem line = new MaterialReceiptItem();
+        line.setMaterialReceipt(materialReceipt);
+        line.setItem(item);
+        line.setOrderedQuantity(BigDecimal.ONE);
+        line.setUnitPrice(PRICE);
+        line.setTotalPrice(PRICE);
+        materialReceiptItemRepository.save(line);
+        return materialReceipt;
+    }
+
+    private Production production(Product product, Item item) {
+        Production draft = new Production();
+        draft.setProduct(product);
+        draft.setWarehouse(warehouse);
+        draft.setUser(user);
+        draft.setPlannedQuantity(BigDecimal.ONE);
+        Production production = productionService.createProduction(draft);
+        ProductionItem line = new ProductionItem();
+        line.setItem(item);
+        line.setRequiredQuantity(BigDecimal.ONE);
+        productionService.addProductionItem(production.getProductionId(), line);
+        return production;
+    }
+
+    private static String uniqueSuffix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,242 @@
+package com.warehouse.api;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.item.ItemService;
+import com.warehouse.api.transaction.TransactionService;
+import com.warehouse.api.user.UserRepository;
+import com.warehouse.api.warehouse.Warehouse;
+import com.warehouse.api.warehouse.WarehouseRepository;
+import com.warehouse.support.MySqlIntegrationTest;
+import com.warehouse.support.StatementCapture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every {@code @Query} method of the application's repositories once with sample arguments, captures
+ * the SQL it sends and EXPLAINs each statement. A statement fails the test when MySQL reads a table or a
+ * whole index in full ({@code ALL} or {@code index}), even when it had a candidate key it chose not to use.
+ * Only the small lookup tables below may be scanned anywhere; methods that read whole tables by design are
+ * listed with the reason.
+ */
+class RepositoryQueryPlanTest extends MySqlIntegrationTest {
+
+    // Reference data that stays a handful of rows; scanning it is cheaper than any index lookup
+    private static final Set<String> SMALL_LOOKUP_TABLES = Set.of(
+            "category",
+            "unit",
+            "warehouse",
+            "dashboard_counter",
+            "document_sequence",
+            "ledger_sequence");
+
+    private static final Set<String> FULL_SCAN_BY_DESIGN = Set.of(
+            // Substring LIKE cannot use a B-tree; these are the fallbacks until the search index is ready
+            "WarehouseRepository.findByNameContaining",
+            "WarehouseRepository.findByLocationContaining",
+            "UserRepository.findByNameContaining",
+            "ItemRepository.findByNameContaining",
+            "ItemRepository.findByCodeContaining",
+            "ProductRepository.findByNameContaining",
+            "ProductRepository.findByCodeContaining",
+            "ClientRepository.findByNameContaining",
+            "ClientRepository.findByPhoneContaining",
+            "OrderRepository.findBySupplierContaining",
+            "MaterialReceiptRepository.findBySupplierContaining",
+            "TransactionRepository.findByReferenceNumberContaining",
+            // Unpaged lists of a whole table
+            "OrderRepository.findAllOrderByOrderDateDesc",
+            "OrderRepository.findAllListViews",
+            "ProductionRepository.findAllOrderByPlannedDateDesc",
+            "ProductionRepository.findAllListViews",
+            "MaterialReceiptRepository.findAllOrderByReceiptDateDesc",
+            "MaterialReceiptRepository.findAllListViews",
+            "ItemRepository.findAllListViews",
+            "ProductRepository.findAllListViews",
+            // The outbox only holds postings the projection has not caught up with yet
+            "InventoryCheckpointRepository.findUnstampedTransactionIds",
+            // Snapshots and rebuilds that aggregate every row
+            "TransactionMovementStatRepository.bucketsFromLedger",
+            "WarehouseStockSummaryRepository.recomputeAll",
+            "WarehouseStockSummaryRepository.deleteOrphaned");
+
+    @DynamicPropertySource
+    static void captureStatements(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.hikari.data-source-properties.queryInterceptors",
+                StatementCapture.class::getName);
+    }
+
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void noQueryNeedsAFullTableScan() {
+        seedLedger(300);
+
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> failures = new ArrayList<>();
+        int checked = 0;
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRepositoryInformationFor(domainType).orElseThrow();
+            Class<?> repositoryInterface = information.getRepositoryInterface();
+            if (!repositoryInterface.getPackageName().startsWith("com.warehouse")) {
+                continue;
+            }
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            List<Method> methods = new ArrayList<>(List.of(repositoryInterface.getDeclaredMethods()));
+            methods.sort(Comparator.comparing(Method::getName));
+            for (Method method : methods) {
+                if (!method.isAnnotationPresent(Query.class)) {
+                    continue;
+                }
+                String name = repositoryInterface.getSimpleName() + "." + method.getName();
+                checked++;
+                List<String> statements = run(repository, method, failures, name);
+                if (FULL_SCAN_BY_DESIGN.contains(name)) {
+                    continue;
+                }
+                for (String sql : statements) {
+                    for (String table : fullScans(sql)) {
+                        failures.add(name + " scans `" + table + "` in full: " + sql);
+                    }
+                }
+            }
+        }
+
+        assertThat(checked).isGreaterThan(50);
+        assertThat(failures).isEmpty();
+    }
+
+    // Runs the method in a transaction that is always rolled back and returns the distinct statements it sent
+    private List<String> run(Object repository, Method method, List<String> failures, String name) {
+        Object[] args = new Object[method.getParameterCount()];
+        Type[] types = method.getGenericParameterTypes();
+        for (int i = 0; i < args.length; i++) {
+            args[i] = sample(types[i]);
+        }
+
+        Set<String> statements = new LinkedHashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            StatementCapture.start();
+            try {
+                method.invoke(repository, args);
+            } catch (InvocationTargetException | IllegalAccessException e) {
+                Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+                failures.add(name + " failed with sample arguments: " + cause);
+            } finally {
+                statements.addAll(StatementCapture.stop());
+            }
+        });
+        statements.removeIf(sql -> !explainable(sql));
+        return new ArrayList<>(statements);
+    }
+
+    private List<String> fullScans(String sql) {
+        List<String> tables = new ArrayList<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + sql)) {
+            Object table = row.get("table");
+            boolean derived = table == null || table.toString().startsWith("<");
+            boolean insertTarget = "INSERT".equals(row.get("select_type"));
+            boolean fullScan = "ALL".equals(row.get("type")) || "index".equals(row.get("type"));
+            if (!derived && !insertTarget && fullScan && !SMALL_LOOKUP_TABLES.contains(table.toString())) {
+                tables.add(table.toString());
+            }
+        }
+        return tables;
+    }
+
+    private boolean explainable(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return (statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete")
+                || statement.startsWith("insert")) && !statement.startsWith("select @@");
+    }
+
+    private Object sample(Type type) {
+        Class<?> raw = (Class<?>) (type instanceof ParameterizedType parameterized ? parameterized.getRawType() : type);
+        if (raw == Long.class || raw == long.class) {
+            return 1L;
+        }
+        if (raw == Integer.class || raw == int.class) {
+            return 1;
+        }
+        if (raw == String.class) {
+            return "x";
+        }
+        if (raw == BigDecimal.class) {
+            return BigDecimal.ONE;
+        }
+        if (raw == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (raw == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (raw.isEnum()) {
+            return raw.getEnumConstants()[0];
+        }
+        if (Pageable.class.isAssignableFrom(raw)) {
+            return PageRequest.of(0, 20);
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return List.of(sample(((ParameterizedType) type).getActualTypeArguments()[0]));
+        }
+        throw new IllegalArgumentException("No sample value for parameter type " + type);
+    }
+
+    // Enough ledger rows that the optimizer does not prefer a scan just because the table is tiny
+    private void seedLedger(int postings) {
+        Warehouse warehouse = warehouseRepository.findByName("Asosiy omborxona").orElseThrow();
+        Long userId = userRepository.findByUsername("admin").orElseThrow().getUserId();
+        Item item = new Item();
+        item.setCode("PLAN-" + UUID.randomUUID().toString().substring(0, 8));
+        item.setName("Query plan test item");
+        item.setWarehouse(warehouse);
+        item.setPrice(BigDecimal.TEN);
+        item = itemService.createItem(item);
+        for (int i = 0; i < postings; i++) {
+            transactionService.createItemInboundTransaction(item.getItemId(), warehouse.getWarehouseId(), userId,
+                    BigDecimal.ONE, BigDecimal.TEN, "query plan test");
+        }
+    }
+}
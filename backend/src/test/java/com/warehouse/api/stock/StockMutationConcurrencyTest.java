@@ -0,0 +1,182 @@
+package com.warehouse.api.stock;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.item.ItemRepository;
+import com.warehouse.api.item.ItemService;
+import com.warehouse.api.transaction.TransactionService;
+import com.warehouse.api.user.UserRepository;
+import com.warehouse.api.warehouse.Warehouse;
+import com.warehouse.api.warehouse.WarehouseRepository;
+import com.warehouse.enums.EntityType;
+import com.warehouse.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the stock mutation engine from many threads at once and checks its invariants: outbounds racing for
+ * the last units of one item never oversell or go negative, exactly the surplus attempts are rejected, and
+ * interleaved postings lose no update.
+ */
+class StockMutationConcurrencyTest extends MySqlIntegrationTest {
+
+    private static final BigDecimal ONE = BigDecimal.ONE;
+    private static final BigDecimal PRICE = new BigDecimal("10.00");
+
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private StockBalanceService stockBalanceService;
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Warehouse warehouse;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        warehouse = warehouseRepository.findByName("Asosiy omborxona").orElseThrow();
+        userId = userRepository.findByUsername("admin").orElseThrow().getUserId();
+    }
+
+    @Test
+    void parallelOutboundsNeverOversell() throws Exception {
+        int stock = 100;
+        int attempts = 400;
+        Item item = createItem(stock);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(32, attempts, attempt -> {
+            try {
+                transactionService.createItemOutboundTransaction(item.getItemId(), warehouse.getWarehouseId(),
+                        userId, null, ONE, PRICE, "concurrency test");
+                succeeded.incrementAndGet();
+            } catch (RuntimeException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertThat(succeeded.get()).isEqualTo(stock);
+        assertThat(rejected.get()).isEqualTo(attempts - stock);
+        assertThat(quantityOf(item)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(balanceOf(item)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void parallelInboundsAndOutboundsLoseNoUpdates() throws Exception {
+        Item item = createItem(1000);
+
+        runConcurrently(16, 400, attempt -> {
+            if (attempt % 2 == 0) {
+                transactionService.createItemInboundTransaction(item.getItemId(), warehouse.getWarehouseId(),
+                        userId, new BigDecimal("3"), PRICE, "concurrency test");
+            } else {
+                transactionService.createItemOutboundTransaction(item.getItemId(), warehouse.getWarehouseId(),
+                        userId, null, new BigDecimal("2"), PRICE, "concurrency test");
+            }
+        });
+
+        // 200 inbounds of 3 and 200 outbounds of 2 on top of the opening 1000, none of them rejected
+        BigDecimal expected = new BigDecimal("1200");
+        assertThat(quantityOf(item)).isEqualByComparingTo(expected);
+        assertThat(balanceOf(item)).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void parallelOutboundsNeverTakeReservedStock() throws Exception {
+        int stock = 100;
+        int reserved = 40;
+        Item item = createItem(stock);
+        transactionTemplate.executeWithoutResult(status ->
+                itemRepository.reserveQuantity(item.getItemId(), BigDecimal.valueOf(reserved)));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(32, stock, attempt -> {
+            try {
+                transactionService.createItemOutboundTransaction(item.getItemId(), warehouse.getWarehouseId(),
+                        userId, null, ONE, PRICE, "concurrency test");
+                succeeded.incrementAndGet();
+            } catch (RuntimeException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertThat(succeeded.get()).isEqualTo(stock - reserved);
+        assertThat(rejected.get()).isEqualTo(reserved);
+        assertThat(quantityOf(item)).isEqualByComparingTo(BigDecimal.valueOf(reserved));
+        assertThat(balanceOf(item)).isEqualByComparingTo(BigDecimal.valueOf(reserved));
+    }
+
+    private void runConcurrently(int threads, int attempts, Attempt attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                int index = i;
+                Callable<Void> task = () -> {
+                    start.await();
+                    attempt.run(index);
+                    return null;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Item createItem(int quantity) {
+        Item item = new Item();
+        item.setCode("CONC-" + UUID.randomUUID().toString().substring(0, 8));
+        item.setName("Concurrency test item");
+        item.setWarehouse(warehouse);
+        item.setPrice(PRICE);
+        item.setQuantity(BigDecimal.valueOf(quantity));
+        return itemService.createItem(item);
+    }
+
+    private BigDecimal quantityOf(Item item) {
+        return itemRepository.findById(item.getItemId()).orElseThrow().getQuantity();
+    }
+
+    private BigDecimal balanceOf(Item item) {
+        return stockBalanceService.getBalance(EntityType.ITEMS, item.getItemId(), warehouse.getWarehouseId())
+                .map(StockBalance::getQuantity)
+                .orElse(BigDecimal.ZERO);
+    }
+
+    @FunctionalInterface
+    private interface Attempt {
+        void run(int attempt);
+    }
+}
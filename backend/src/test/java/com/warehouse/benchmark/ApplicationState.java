@@ -0,0 +1,73 @@
+package com.warehouse.benchmark;
+
+import com.warehouse.WarehouseManagementApplication;
+import com.warehouse.api.item.Item;
+import com.warehouse.api.item.ItemService;
+import com.warehouse.api.user.User;
+import com.warehouse.api.user.UserRepository;
+import com.warehouse.api.warehouse.Warehouse;
+import com.warehouse.api.warehouse.WarehouseRepository;
+import com.warehouse.support.TestMySql;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Boots the whole application against the shared MySQL container once per benchmark trial, with the seed
+ * data from {@code DataInitializer}. Benchmark states extend this and look up the beans they drive.
+ */
+public abstract class ApplicationState {
+
+    protected static final BigDecimal PRICE = new BigDecimal("10.00");
+
+    protected ConfigurableApplicationContext context;
+    protected Warehouse warehouse;
+    protected User user;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        Map<String, String> properties = new LinkedHashMap<>(TestMySql.properties());
+        properties.put("server.port", "0");
+        properties.putAll(applicationProperties());
+        // Command line arguments, so these settings win over application.yml
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        context = new SpringApplicationBuilder(WarehouseManagementApplication.class).run(args);
+        warehouse = bean(WarehouseRepository.class).findByName("Asosiy omborxona").orElseThrow();
+        user = bean(UserRepository.class).findByUsername("admin").orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    // Settings a benchmark runs the application with, on top of the container ones
+    protected Map<String, String> applicationProperties() {
+        return Map.of();
+    }
+
+    protected <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    protected Item createItem(String prefix, BigDecimal quantity) {
+        Item item = new Item();
+        item.setCode(prefix + "-" + UUID.randomUUID().toString().substring(0, 8));
+        item.setName("Benchmark item");
+        item.setWarehouse(warehouse);
+        item.setPrice(PRICE);
+        item.setQuantity(quantity);
+        return bean(ItemService.class).createItem(item);
+    }
+}
@@ -0,0 +1,155 @@
+package com.warehouse.benchmark;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.order.Order;
+import com.warehouse.api.order.OrderItem;
+import com.warehouse.api.order.OrderItemRepository;
+import com.warehouse.api.order.OrderService;
+import com.warehouse.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same HTTP load against Tomcat on platform threads and on virtual threads, where the database bulkhead
+ * is on. Every client thread sends requests back to back. Throughput mode gives requests per millisecond and
+ * sample mode the latency distribution, whose p0.99 row is the tail to compare. Requests turned away with a
+ * 503 are counted in the "rejected" column instead of failing the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(256)
+@Fork(1)
+public class ConcurrencyLoadBenchmark extends ApplicationState {
+
+    // Receiving consumes an order per request, so each iteration gets a fresh stock of confirmed orders
+    private static final int ORDERS_PER_ITERATION = 5000;
+    private static final int LINES = 5;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"/transactions", "/orders/{id}/receive", "/items"})
+    public String endpoint;
+
+    private final Queue<Long> openOrders = new ConcurrentLinkedQueue<>();
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String authorization;
+    private List<Item> items;
+
+    @Override
+    protected Map<String, String> applicationProperties() {
+        return Map.of("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+    }
+
+    @Setup(Level.Trial)
+    public void connect() {
+        String token = bean(JwtTokenProvider.class)
+                .generateToken(new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of()));
+        authorization = "Bearer " + token;
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1";
+        httpClient = HttpClient.newHttpClient();
+        items = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            items.add(createItem("BENCH-LOAD", BigDecimal.ZERO));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createOrders() {
+        if (!endpoint.contains("receive")) {
+            return;
+        }
+        openOrders.clear();
+        OrderService orderService = bean(OrderService.class);
+        OrderItemRepository orderItemRepository = bean(OrderItemRepository.class);
+        for (int i = 0; i < ORDERS_PER_ITERATION; i++) {
+            Order draft = new Order();
+            draft.setWarehouse(warehouse);
+            draft.setUser(user);
+            draft.setSupplier("Benchmark supplier");
+            Order order = orderService.createOrder(draft);
+            List<OrderItem> lines = new ArrayList<>();
+            for (Item item : items) {
+                OrderItem line = new OrderItem();
+                line.setOrder(order);
+                line.setItem(item);
+                line.setOrderedQuantity(BigDecimal.ONE);
+                line.setUnitPrice(PRICE);
+                line.setTotalPrice(PRICE);
+                lines.add(line);
+            }
+            orderItemRepository.saveAll(lines);
+            openOrders.add(orderService.confirmOrder(order.getOrderId()).getOrderId());
+        }
+    }
+
+    @Benchmark
+    public int request(Outcomes outcomes) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(nextRequest(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 503) {
+            outcomes.rejected++;
+        } else if (response.statusCode() != 200) {
+            throw new IllegalStateException(endpoint + " returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    private HttpRequest nextRequest() {
+        if (!endpoint.contains("{id}")) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                    .header("Authorization", authorization)
+                    .GET()
+                    .build();
+        }
+        Long orderId = openOrders.poll();
+        if (orderId == null) {
+            throw new IllegalStateException("Ran out of open orders; raise ORDERS_PER_ITERATION");
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + endpoint.replace("{id}", orderId.toString())))
+                .header("Authorization", authorization)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rejected = 0;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.warehouse.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.warehouse.api.item.Item;
+import com.warehouse.api.transaction.Transaction;
+import com.warehouse.api.transaction.TransactionRepository;
+import com.warehouse.api.transaction.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing ledger entities with the application's ObjectMapper, which is what every list endpoint
+ * returning entities pays per response. Each row drags in its item, warehouse and user graphs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EntityJsonBenchmark extends ApplicationState {
+
+    @Param({"1", "100"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private List<Transaction> transactions;
+
+    @Setup(Level.Trial)
+    public void loadTransactions() {
+        objectMapper = bean(ObjectMapper.class);
+        TransactionService transactionService = bean(TransactionService.class);
+        Item item = createItem("BENCH-JSON", BigDecimal.ZERO);
+        for (int i = 0; i < rows; i++) {
+            transactionService.createItemInboundTransaction(item.getItemId(), warehouse.getWarehouseId(),
+                    user.getUserId(), BigDecimal.ONE, PRICE, "benchmark");
+        }
+        transactions = bean(TransactionRepository.class)
+                .findAll(PageRequest.of(0, rows, Sort.by(Sort.Direction.DESC, "transactionId")))
+                .getContent();
+    }
+
+    @Benchmark
+    public byte[] serializeTransactions() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(transactions);
+    }
+}
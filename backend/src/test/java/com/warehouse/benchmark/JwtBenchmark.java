@@ -0,0 +1,60 @@
+package com.warehouse.benchmark;
+
+import com.warehouse.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token work done on every authenticated request. Needs no database, so the provider is built directly
+ * with the secret from application.yml instead of booting the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void createToken() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+                "434d3f227fa2c51068e7aafaed2f70cb84bd584223392a36b361cfcdee95f113");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationDate", 3024000000L);
+        jwtTokenProvider.init();
+        token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtTokenProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return jwtTokenProvider.getUsername(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.warehouse.benchmark;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.materialreceipt.MaterialReceipt;
+import com.warehouse.api.materialreceipt.MaterialReceiptItem;
+import com.warehouse.api.materialreceipt.MaterialReceiptItemRepository;
+import com.warehouse.api.materialreceipt.MaterialReceiptService;
+import com.warehouse.api.order.Order;
+import com.warehouse.api.order.OrderItem;
+import com.warehouse.api.order.OrderItemRepository;
+import com.warehouse.api.order.OrderService;
+import com.warehouse.api.product.ProductRepository;
+import com.warehouse.api.production.Production;
+import com.warehouse.api.production.ProductionService;
+import com.warehouse.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List endpoints over HTTP, entity responses against their flat projection counterparts. The score is
+ * request latency; the payload size of each path is printed once at setup, since it does not change
+ * between invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ListEndpointBenchmark extends ApplicationState {
+
+    private static final int DOCUMENTS = 200;
+    private static final int LINES = 5;
+
+    @Param({"/orders", "/orders/list", "/productions", "/productions/list",
+            "/material-receipts", "/material-receipts/list", "/items", "/items/list"})
+    public String path;
+
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void seedDocuments() throws IOException, InterruptedException {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            items.add(createItem("BENCH-LIST", new BigDecimal("1000")));
+        }
+        for (int i = 0; i < DOCUMENTS; i++) {
+            createOrder(items);
+            createMaterialReceipt(items);
+            createProduction();
+        }
+
+        String token = bean(JwtTokenProvider.class)
+                .generateToken(new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of()));
+        String port = context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1" + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        System.out.printf("%n%s payload: %d bytes%n", path, get().length);
+    }
+
+    @Benchmark
+    public byte[] list() throws IOException, InterruptedException {
+        return get();
+    }
+
+    private byte[] get() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private void createOrder(List<Item> items) {
+        Order draft = new Order();
+        draft.setWarehouse(warehouse);
+        draft.setUser(user);
+        draft.setSupplier("Benchmark supplier");
+        Order order = bean(OrderService.class).createOrder(draft);
+        List<OrderItem> lines = new ArrayList<>();
+        for (Item item : items) {
+            OrderItem line = new OrderItem();
+            line.setOrder(order);
+            line.setItem(item);
+            line.setOrderedQuantity(BigDecimal.ONE);
+            line.setUnitPrice(PRICE);
+            line.setTotalPrice(PRICE);
+            lines.add(line);
+        }
+        bean(OrderItemRepository.class).saveAll(lines);
+    }
+
+    private void createMaterialReceipt(List<Item> items) {
+        MaterialReceipt draft = new MaterialReceipt();
+        draft.setWarehouse(warehouse);
+        draft.setUser(user);
+        draft.setSupplier("Benchmark supplier");
+        MaterialReceipt receipt = bean(MaterialReceiptService.class).createMaterialReceipt(draft);
+        List<MaterialReceiptItem> lines = new ArrayList<>();
+        for (Item item : items) {
+            MaterialReceiptItem line = new MaterialReceiptItem();
+            line.setMaterialReceipt(receipt);
+            line.setItem(item);
+            line.setOrderedQuantity(BigDecimal.ONE);
+            line.setUnitPrice(PRICE);
+            line.setTotalPrice(PRICE);
+            lines.add(line);
+        }
+        bean(MaterialReceiptItemRepository.class).saveAll(lines);
+    }
+
+    private void createProduction() {
+        Production draft = new Production();
+        draft.setProduct(bean(ProductRepository.class).findByCode("PROD001").orElseThrow());
+        draft.setWarehouse(warehouse);
+        draft.setUser(user);
+        draft.setPlannedQuantity(BigDecimal.ONE);
+        bean(ProductionService.class).createProduction(draft);
+    }
+}
@@ -0,0 +1,78 @@
+package com.warehouse.benchmark;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.product.Product;
+import com.warehouse.api.product.ProductRepository;
+import com.warehouse.api.production.Production;
+import com.warehouse.api.production.ProductionItem;
+import com.warehouse.api.production.ProductionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starting a planned production: its reservation is turned into consumption and one ledger row is
+ * posted per material line. Every iteration starts a fresh PLANNED production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class ProductionBenchmark extends ApplicationState {
+
+    @Param({"5", "50"})
+    public int materials;
+
+    private ProductionService productionService;
+    private Product product;
+    private List<Item> items;
+    private Production production;
+
+    @Setup(Level.Trial)
+    public void createMaterials() {
+        productionService = bean(ProductionService.class);
+        product = bean(ProductRepository.class).findByCode("PROD001").orElseThrow();
+        items = new ArrayList<>();
+        for (int i = 0; i < materials; i++) {
+            items.add(createItem("BENCH-PRD", new BigDecimal("9000000")));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void planProduction() {
+        Production draft = new Production();
+        draft.setProduct(product);
+        draft.setWarehouse(warehouse);
+        draft.setUser(user);
+        draft.setPlannedQuantity(BigDecimal.ONE);
+        production = productionService.createProduction(draft);
+        for (Item item : items) {
+            ProductionItem line = new ProductionItem();
+            line.setItem(item);
+            line.setRequiredQuantity(BigDecimal.ONE);
+            line.setUnitCost(PRICE);
+            productionService.addProductionItem(production.getProductionId(), line);
+        }
+    }
+
+    @Benchmark
+    public Production startProduction() {
+        return productionService.startProduction(production.getProductionId());
+    }
+}
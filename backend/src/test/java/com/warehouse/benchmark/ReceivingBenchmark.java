@@ -0,0 +1,115 @@
+package com.warehouse.benchmark;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.materialreceipt.MaterialReceipt;
+import com.warehouse.api.materialreceipt.MaterialReceiptItem;
+import com.warehouse.api.materialreceipt.MaterialReceiptItemRepository;
+import com.warehouse.api.materialreceipt.MaterialReceiptService;
+import com.warehouse.api.order.Order;
+import com.warehouse.api.order.OrderItem;
+import com.warehouse.api.order.OrderItemRepository;
+import com.warehouse.api.order.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receiving a whole purchase order or material receipt as a function of its line count. Every iteration
+ * receives a fresh open document, so each measurement is a single call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class ReceivingBenchmark extends ApplicationState {
+
+    @Param({"10", "100", "1000"})
+    public int lines;
+
+    private OrderService orderService;
+    private OrderItemRepository orderItemRepository;
+    private MaterialReceiptService materialReceiptService;
+    private MaterialReceiptItemRepository materialReceiptItemRepository;
+    private List<Item> items;
+    private Order order;
+    private MaterialReceipt materialReceipt;
+
+    @Setup(Level.Trial)
+    public void createItems() {
+        orderService = bean(OrderService.class);
+        orderItemRepository = bean(OrderItemRepository.class);
+        materialReceiptService = bean(MaterialReceiptService.class);
+        materialReceiptItemRepository = bean(MaterialReceiptItemRepository.class);
+        items = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            items.add(createItem("BENCH-RCV", BigDecimal.ZERO));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createDocuments() {
+        Order draft = new Order();
+        draft.setWarehouse(warehouse);
+        draft.setUser(user);
+        draft.setSupplier("Benchmark supplier");
+        order = orderService.createOrder(draft);
+
+        // Lines are saved in one batch; going through addOrderItem would re-total the order per line
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (Item item : items) {
+            OrderItem orderItem = new OrderItem();
+            orderItem.setOrder(order);
+            orderItem.setItem(item);
+            orderItem.setOrderedQuantity(BigDecimal.ONE);
+            orderItem.setUnitPrice(PRICE);
+            orderItem.setTotalPrice(PRICE);
+            orderItems.add(orderItem);
+        }
+        orderItemRepository.saveAll(orderItems);
+        order = orderService.confirmOrder(order.getOrderId());
+
+        MaterialReceipt receiptDraft = new MaterialReceipt();
+        receiptDraft.setWarehouse(warehouse);
+        receiptDraft.setUser(user);
+        receiptDraft.setSupplier("Benchmark supplier");
+        materialReceipt = materialReceiptService.createMaterialReceipt(receiptDraft);
+
+        List<MaterialReceiptItem> receiptItems = new ArrayList<>();
+        for (Item item : items) {
+            MaterialReceiptItem receiptItem = new MaterialReceiptItem();
+            receiptItem.setMaterialReceipt(materialReceipt);
+            receiptItem.setItem(item);
+            receiptItem.setOrderedQuantity(BigDecimal.ONE);
+            receiptItem.setUnitPrice(PRICE);
+            receiptItem.setTotalPrice(PRICE);
+            receiptItems.add(receiptItem);
+        }
+        materialReceiptItemRepository.saveAll(receiptItems);
+    }
+
+    @Benchmark
+    public Order receiveOrder() {
+        return orderService.receiveOrder(order.getOrderId());
+    }
+
+    @Benchmark
+    public MaterialReceipt receiveMaterialReceipt() {
+        return materialReceiptService.receiveMaterialReceipt(materialReceipt.getReceiptId());
+    }
+}
@@ -0,0 +1,79 @@
+package com.warehouse.benchmark;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.search.SearchField;
+import com.warehouse.api.search.SearchIndexService;
+import com.warehouse.api.search.dto.SearchHit;
+import com.warehouse.api.search.dto.SearchPage;
+import com.warehouse.enums.SearchEntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search latency against an index of synthetic SKUs. The index is filled through the save hooks with no
+ * transaction active, so no database or application context is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SearchBenchmark {
+
+    private static final String[] WORDS = {"temir", "po'lat", "mis", "alyuminiy", "plastik", "rezina", "shisha",
+            "yog'och", "bolt", "gayka", "shayba", "quvur", "list", "sim", "kabel", "profil", "burchak", "truba"};
+
+    @Param({"10000", "200000"})
+    public int skus;
+
+    private SearchIndexService searchIndexService;
+
+    @Setup
+    public void buildIndex() {
+        searchIndexService = new SearchIndexService(null, null, null, null, null);
+        Random random = new Random(42);
+        for (long id = 1; id <= skus; id++) {
+            Item item = new Item();
+            item.setItemId(id);
+            item.setCode(String.format("SKU%07d", id));
+            item.setName(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " "
+                    + (random.nextInt(500) + 1) + "mm");
+            searchIndexService.itemSaved(item);
+        }
+    }
+
+    @Benchmark
+    public SearchPage rankedSearch() {
+        return searchIndexService.search("temir bolt", Set.of(SearchEntityType.ITEM), 0, 20);
+    }
+
+    @Benchmark
+    public SearchPage typoSearch() {
+        return searchIndexService.search("alyuminy", Set.of(SearchEntityType.ITEM), 0, 20);
+    }
+
+    @Benchmark
+    public List<SearchHit> autocomplete() {
+        return searchIndexService.autocomplete("kab", Set.of(SearchEntityType.ITEM), 10);
+    }
+
+    @Benchmark
+    public List<Long> codeContaining() {
+        return searchIndexService.findContaining(SearchEntityType.ITEM, SearchField.CODE, "01234");
+    }
+}
@@ -0,0 +1,47 @@
+package com.warehouse.benchmark;
+
+import com.warehouse.api.item.Item;
+import com.warehouse.api.transaction.Transaction;
+import com.warehouse.api.transaction.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One outbound posting: the guarded stock update on the item and balance rows, the ledger insert and
+ * the outbox row, in a single transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class TransactionPostingBenchmark extends ApplicationState {
+
+    private TransactionService transactionService;
+    private Item item;
+
+    @Setup(Level.Trial)
+    public void createStock() {
+        transactionService = bean(TransactionService.class);
+        item = createItem("BENCH-OUT", new BigDecimal("9000000"));
+    }
+
+    @Benchmark
+    public Transaction createItemOutboundTransaction() {
+        return transactionService.createItemOutboundTransaction(item.getItemId(), warehouse.getWarehouseId(),
+                user.getUserId(), null, BigDecimal.ONE, PRICE, "benchmark");
+    }
+}
@@ -0,0 +1,19 @@
+package com.warehouse.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Base class for tests that need the full application on a real MySQL. The container from {@link TestMySql}
+ * is shared by every test class. Tests share the database, so each one creates its own rows with unique
+ * codes instead of relying on a clean slate.
+ */
+@SpringBootTest
+public abstract class MySqlIntegrationTest {
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        TestMySql.properties().forEach((name, value) -> registry.add(name, () -> value));
+    }
+}
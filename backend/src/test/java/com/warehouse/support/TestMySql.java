@@ -0,0 +1,39 @@
+package com.warehouse.support;
+
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The MySQL container shared by integration tests and benchmarks. It is started once per JVM; Flyway
+ * builds the schema from the same scripts production uses.
+ */
+public final class TestMySql {
+
+    public static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36")
+            .withDatabaseName("warehouse_db")
+            .withUrlParam("characterEncoding", "UTF-8")
+            .withUrlParam("serverTimezone", "UTC")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    static {
+        MYSQL.start();
+    }
+
+    private TestMySql() {
+    }
+
+    // Points the application at the container and keeps SQL and request logging out of the output
+    public static Map<String, String> properties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", MYSQL.getJdbcUrl());
+        properties.put("spring.datasource.username", MYSQL.getUsername());
+        properties.put("spring.datasource.password", MYSQL.getPassword());
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.org.hibernate.SQL", "INFO");
+        properties.put("logging.level.org.springframework.web", "INFO");
+        properties.put("logging.level.org.springframework.security", "INFO");
+        return properties;
+    }
+}
@@ -47,6 +47,8 @@ const { TabPane } = Tabs;
 
 const Transactions = () => {
   const [transactions, setTransactions] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [filteredTransactions, setFilteredTransactions] = useState([]);
   const [items, setItems] = useState([]);
   const [products, setProducts] = useState([]);
@@ -111,23 +113,23 @@ const Transactions = () => {
       key: 'entityName',
       width: 150,
       render: (_, record) => {
-        if (record.entityType === 'ITEMS' && record.item) {
-          return record.item.name;
-        } else if (record.entityType === 'PRODUCTS' && record.product) {
-          return record.product.name;
+        if (record.entityType === 'ITEMS' && record.itemName) {
+          return record.itemName;
+        } else if (record.entityType === 'PRODUCTS' && record.productName) {
+          return record.productName;
         }
         return '-';
       },
     },
     {
       title: 'Omborxona',
-      dataIndex: ['warehouse', 'name'],
+      dataIndex: 'warehouseName',
       key: 'warehouse',
       width: 120,
     },
     {
       title: 'Foydalanuvchi',
-      dataIndex: ['user', 'fullName'],
+      dataIndex: 'userFullName',
       key: 'user',
       width: 120,
     },
@@ -228,8 +230,9 @@ const Transactions = () => {
         warehouseService.getAll(),
         userService.getAll(),
       ]);
-      setTransactions(transactionsData);
-      setFilteredTransactions(transactionsData);
+      setTransactions(transactionsData.content);
+      setNextCursor(transactionsData.nextCursor);
+      setFilteredTransactions(transactionsData.content);
       setItems(itemsData);
       setProducts(productsData);
       setWarehouses(warehousesData);
@@ -241,6 +244,19 @@ const Transactions = () => {
     }
   };
 
+  const loadMore = async () => {
+    setLoadingMore(true);
+    try {
+      const page = await transactionService.getAll(nextCursor);
+      setTransactions((loaded) => [...loaded, ...page.content]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      message.error('Xatolik yuz berdi');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const applyFilters = () => {
     let filtered = [...transactions];
 
@@ -269,12 +285,12 @@ const Transactions = () => {
 
     // Filter by warehouse
     if (filterWarehouse) {
-      filtered = filtered.filter(transaction => transaction.warehouse?.warehouseId === filterWarehouse);
+      filtered = filtered.filter(transaction => transaction.warehouseId === filterWarehouse);
     }
 
     // Filter by user
     if (filterUser) {
-      filtered = filtered.filter(transaction => transaction.user?.userId === filterUser);
+      filtered = filtered.filter(transaction => transaction.userId === filterUser);
     }
 
     // Filter by date range
@@ -319,10 +335,6 @@ const Transactions = () => {
     form.setFieldsValue({
       ...transaction,
       transactionDate: dayjs(transaction.transactionDate),
-      itemId: transaction.item?.itemId,
-      productId: transaction.product?.productId,
-      warehouseId: transaction.warehouse?.warehouseId,
-      userId: transaction.user?.userId,
     });
     setModalVisible(true);
   };
@@ -621,8 +633,13 @@ const Transactions = () => {
         
         <div className="flex justify-between items-center">
           <Text type="secondary">
-            Jami: {transactions.length} ta tranzaksiya, Ko'rsatilmoqda: {filteredTransactions.length} ta
+            Yuklangan: {transactions.length} ta tranzaksiya, Ko'rsatilmoqda: {filteredTransactions.length} ta
           </Text>
+          {nextCursor && (
+            <Button onClick={loadMore} loading={loadingMore}>
+              Ko'proq yuklash
+            </Button>
+          )}
         </div>
       </Card>
 
@@ -0,0 +1,25 @@
+import api from './api';
+
+export const inventoryService = {
+  getAsOf: async (date, { entityType, entityId, warehouseId } = {}) => {
+    const response = await api.get('/inventory/as-of', {
+      params: { date, entityType, entityId, warehouseId },
+    });
+    return response.data;
+  },
+
+  getCheckpoints: async () => {
+    const response = await api.get('/inventory/checkpoints');
+    return response.data;
+  },
+
+  takeCheckpoint: async () => {
+    const response = await api.post('/inventory/checkpoints');
+    return response.data;
+  },
+
+  reconcile: async (repair = false) => {
+    const response = await api.post('/inventory/reconcile', null, { params: { repair } });
+    return response.data;
+  },
+};
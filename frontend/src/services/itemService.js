@@ -6,6 +6,11 @@ export const itemService = {
     return response.data;
   },
 
+  getList: async () => {
+    const response = await api.get('/items/list');
+    return response.data;
+  },
+
   getById: async (id) => {
     const response = await api.get(`/items/${id}`);
     return response.data;
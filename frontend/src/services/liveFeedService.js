@@ -0,0 +1,60 @@
+import { useAuthStore } from '../store/authStore';
+
+const API_BASE_URL = import.meta.env.VITE_API_BASE_URL + '/api/v1';
+
+// EventSource cannot send the Authorization header, so the event stream is read with fetch.
+// handlers: { transaction, stock, error }; returns a function that closes the stream.
+export const liveFeedService = {
+  subscribe: (handlers, warehouseId) => {
+    const controller = new AbortController();
+    const token = useAuthStore.getState().token;
+    const query = warehouseId ? `?warehouseId=${warehouseId}` : '';
+
+    fetch(`${API_BASE_URL}/live/events${query}`, {
+      headers: {
+        Accept: 'text/event-stream',
+        ...(token ? { Authorization: `Bearer ${token}` } : {}),
+      },
+      signal: controller.signal,
+    })
+      .then(async (response) => {
+        if (!response.ok) {
+          throw new Error(`Live feed failed with status ${response.status}`);
+        }
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) {
+            break;
+          }
+          buffer += value;
+          let boundary;
+          while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+            const chunk = buffer.slice(0, boundary);
+            buffer = buffer.slice(boundary + 2);
+
+            let event = 'message';
+            const data = [];
+            chunk.split('\n').forEach((line) => {
+              if (line.startsWith('event:')) {
+                event = line.slice(6).trim();
+              } else if (line.startsWith('data:')) {
+                data.push(line.slice(5).trimStart());
+              }
+            });
+            if (data.length > 0 && handlers[event]) {
+              handlers[event](JSON.parse(data.join('\n')));
+            }
+          }
+        }
+      })
+      .catch((error) => {
+        if (error.name !== 'AbortError' && handlers.error) {
+          handlers.error(error);
+        }
+      });
+
+    return () => controller.abort();
+  },
+};
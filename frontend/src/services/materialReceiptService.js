@@ -6,6 +6,11 @@ export const materialReceiptService = {
     return response.data;
   },
 
+  getList: async () => {
+    const response = await api.get('/material-receipts/list');
+    return response.data;
+  },
+
   getById: async (id) => {
     const response = await api.get(`/material-receipts/${id}`);
     return response.data;
@@ -6,6 +6,11 @@ export const orderService = {
     return response.data;
   },
 
+  getList: async () => {
+    const response = await api.get('/orders/list');
+    return response.data;
+  },
+
   getById: async (id) => {
     const response = await api.get(`/orders/${id}`);
     return response.data;
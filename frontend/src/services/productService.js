@@ -6,6 +6,11 @@ export const productService = {
     return response.data;
   },
 
+  getList: async () => {
+    const response = await api.get('/products/list');
+    return response.data;
+  },
+
   getById: async (id) => {
     const response = await api.get(`/products/${id}`);
     return response.data;
@@ -6,11 +6,21 @@ export const productionService = {
     return response.data;
   },
 
+  getList: async () => {
+    const response = await api.get('/productions/list');
+    return response.data;
+  },
+
   getById: async (id) => {
     const response = await api.get(`/productions/${id}`);
     return response.data;
   },
 
+  getMaterialRequirements: async () => {
+    const response = await api.get('/productions/mrp');
+    return response.data;
+  },
+
   create: async (production) => {
     const response = await api.post('/productions', production);
     return response.data;
@@ -65,6 +75,15 @@ export const productionService = {
     return response.data;
   },
 
+  reserve: async (id) => {
+    const response = await api.post(`/productions/${id}/reserve`);
+    return response.data;
+  },
+
+  release: async (id) => {
+    await api.post(`/productions/${id}/release`);
+  },
+
   getItems: async (id) => {
     const response = await api.get(`/productions/${id}/items`);
     return response.data;
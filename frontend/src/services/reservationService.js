@@ -0,0 +1,18 @@
+import api from './api';
+
+export const reservationService = {
+  getByProduction: async (productionId) => {
+    const response = await api.get(`/reservations/production/${productionId}`);
+    return response.data;
+  },
+
+  getByItem: async (itemId) => {
+    const response = await api.get(`/reservations/item/${itemId}`);
+    return response.data;
+  },
+
+  getAvailableToPromise: async (itemId) => {
+    const response = await api.get(`/reservations/item/${itemId}/available`);
+    return response.data;
+  },
+};
@@ -0,0 +1,17 @@
+import api from './api';
+
+export const searchService = {
+  search: async (q, types = [], page = 0, size = 20) => {
+    const response = await api.get('/search', {
+      params: { q, types: types.join(',') || undefined, page, size },
+    });
+    return response.data;
+  },
+
+  autocomplete: async (prefix, types = [], limit = 10) => {
+    const response = await api.get('/search/autocomplete', {
+      params: { prefix, types: types.join(',') || undefined, limit },
+    });
+    return response.data;
+  },
+};
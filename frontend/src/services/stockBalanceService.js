@@ -0,0 +1,18 @@
+import api from './api';
+
+export const stockBalanceService = {
+  getBalances: async (entityType, entityId) => {
+    const response = await api.get(`/stock-balances/${entityType}/${entityId}`);
+    return response.data;
+  },
+
+  getBalance: async (entityType, entityId, warehouseId) => {
+    const response = await api.get(`/stock-balances/${entityType}/${entityId}/warehouse/${warehouseId}`);
+    return response.data;
+  },
+
+  getWarehouseBalances: async (warehouseId) => {
+    const response = await api.get(`/stock-balances/warehouse/${warehouseId}`);
+    return response.data;
+  },
+};
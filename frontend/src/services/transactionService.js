@@ -1,8 +1,14 @@
 import api from './api';
 
 export const transactionService = {
-  getAll: async () => {
-    const response = await api.get('/transactions');
+  // Returns { content, nextCursor, size }; pass nextCursor back to load older rows
+  getAll: async (cursor, size) => {
+    const response = await api.get('/transactions', { params: { cursor, size } });
+    return response.data;
+  },
+
+  getPage: async (cursor, size) => {
+    const response = await api.get('/transactions/page', { params: { cursor, size } });
     return response.data;
   },
 
@@ -65,6 +71,15 @@ export const transactionService = {
     return response.data;
   },
 
+  // Downloads the ledger for the range as a file; format is 'csv' or 'xlsx'
+  export: async (startDate, endDate, format = 'csv') => {
+    const response = await api.get(`/transactions/export?startDate=${startDate}&endDate=${endDate}&format=${format}`, {
+      responseType: 'blob',
+      timeout: 0,
+    });
+    return response.data;
+  },
+
   searchByReference: async (reference) => {
     const response = await api.get(`/transactions/search?reference=${reference}`);
     return response.data;
@@ -94,4 +109,14 @@ export const transactionService = {
     const response = await api.post('/transactions/product/outbound', data);
     return response.data;
   },
+
+  createBatch: async (lines) => {
+    const response = await api.post('/transactions/batch', lines);
+    return response.data;
+  },
+
+  transfer: async (transfer) => {
+    const response = await api.post('/transactions/transfer', transfer);
+    return response.data;
+  },
 };
\ No newline at end of file